@@ -0,0 +1,57 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정답 토큰 발급/검증 비용 벤치마크
+ *
+ * <p>
+ * 정답 제출은 HMAC 한 번, 오답 제출은 HMAC 두 번을 계산하므로 두 경우를 나누어 측정합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=AnswerTokenBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class AnswerTokenBenchmark {
+
+    private AnswerTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new AnswerTokenService(true, Duration.ofMinutes(30),
+                "k1:AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8=");
+        token = tokenService.issue(12345, true);
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenService.issue(12345, true);
+    }
+
+    @Benchmark
+    public TokenCheckResult verifyCorrect() {
+        return tokenService.verify(token, true);
+    }
+
+    @Benchmark
+    public TokenCheckResult verifyIncorrect() {
+        return tokenService.verify(token, false);
+    }
+}
@@ -0,0 +1,107 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.QuizStudyApplication;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuizServiceImpl} 주요 경로 벤치마크
+ *
+ * <p>
+ * 임베디드 H2 로 애플리케이션 컨텍스트를 띄우고(웹 서버 제외) 데이터 크기별로
+ * 캐시, 메모리 인덱스, 트랜잭션 프록시를 모두 거친 서비스 메서드를 측정합니다.
+ * 결과는 {@code build/results/jmh/results.json} 에 JSON 으로 남으며, {@code gc} 프로파일러의
+ * {@code gc.alloc.rate.norm} 으로 호출당 할당량을 빌드 간에 비교할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * {@link #insertQuiz()} 는 반복할수록 테이블이 커지므로 다른 측정과 따로 실행하는 것을 권장합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=QuizServiceBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private QuizService quizService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(QuizStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:service_" + rows + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.sql.init.mode=always",
+                        "--quiz.index.resync-interval=PT24H",
+                        "--logging.level.com.adam9e96=warn");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("INSERT INTO quiz (question, answer, author) "
+                + "SELECT '벤치마크 퀴즈 ' || x, MOD(x, 2) = 0, 'bench' FROM SYSTEM_RANGE(1, " + rows + ")");
+        // 기동 시점에는 테이블이 비어 있었으므로 메모리 인덱스를 다시 채움
+        context.publishEvent(new QuizBulkImportedEvent(rows));
+        quizService = context.getBean(QuizService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("SHUTDOWN");
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Quiz> selectOneRandomQuiz() {
+        return quizService.selectOneRandomQuiz();
+    }
+
+    @Benchmark
+    public Boolean checkQuiz() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return quizService.checkQuiz(random.nextInt(1, rows + 1), random.nextBoolean());
+    }
+
+    @Benchmark
+    public Iterable<Quiz> selectAll() {
+        return quizService.selectAll();
+    }
+
+    @Benchmark
+    public List<Quiz> getRandomQuizzes() {
+        return quizService.getRandomQuizzes(10);
+    }
+
+    @Benchmark
+    public Quiz insertQuiz() {
+        Quiz quiz = new Quiz(null, "벤치마크 등록 퀴즈", true, "bench");
+        quizService.insertQuiz(quiz);
+        return quiz;
+    }
+}
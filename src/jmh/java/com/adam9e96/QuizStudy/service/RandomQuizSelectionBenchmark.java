@@ -0,0 +1,98 @@
+package com.adam9e96.QuizStudy.service;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 퀴즈 선택 벤치마크
+ *
+ * <p>
+ * 기존 방식({@code order by random() limit 1} + {@code findById})과
+ * {@link RandomQuizSelector} 방식(메모리 ID 선택 + 단건 조회)을 10k, 100k, 1M 건의 H2 데이터로 비교합니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=RandomQuizSelectionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RandomQuizSelectionBenchmark {
+
+    private static final String FIND_BY_ID = "SELECT id, question, answer, author FROM quiz WHERE id = ?";
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private RandomQuizSelector selector;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:random_" + rows + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS quiz");
+        jdbcTemplate.execute("""
+                create table quiz
+                (
+                    id       serial
+                        primary key,
+                    question text        not null,
+                    answer   boolean     not null,
+                    author   varchar(20) not null
+                )""");
+        jdbcTemplate.execute("INSERT INTO quiz (question, answer, author) "
+                + "SELECT '벤치마크 퀴즈 ' || x, MOD(x, 2) = 0, 'bench' FROM SYSTEM_RANGE(1, " + rows + ")");
+
+        selector = new RandomQuizSelector();
+        new QuizIndexRebuilder(dataSource, new DataSourceTransactionManager(dataSource), List.of(selector),
+                Runnable::run, 1000).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    /**
+     * 기존 SQL 경로: 테이블 전체를 정렬해 ID 를 고른 뒤 다시 한 건을 조회합니다.
+     */
+    @Benchmark
+    public Map<String, Object> sqlOrderByRandom() {
+        Integer id = jdbcTemplate.queryForObject("Select q.id from quiz q order by random() limit 1", Integer.class);
+        return jdbcTemplate.queryForMap(FIND_BY_ID, id);
+    }
+
+    /**
+     * 인덱스 경로: 배열에서 ID 를 고른 뒤 한 건만 조회합니다.
+     */
+    @Benchmark
+    public Map<String, Object> indexPick() {
+        return jdbcTemplate.queryForMap(FIND_BY_ID, selector.pick().getAsInt());
+    }
+
+    /**
+     * 인덱스 경로 중 메모리 선택 비용만 측정합니다.
+     */
+    @Benchmark
+    public int indexPickOnly() {
+        return selector.pick().getAsInt();
+    }
+}
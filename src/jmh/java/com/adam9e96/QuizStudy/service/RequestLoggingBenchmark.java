@@ -0,0 +1,122 @@
+package com.adam9e96.QuizStudy.service;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 로깅 방식별 요청 스레드 지연 벤치마크
+ *
+ * <p>
+ * 목록 화면 한 번에 해당하는 로그(목록 20건)를 남길 때 요청 스레드가 부담하는 시간을 비교합니다.
+ * <ul>
+ *     <li>{@code syncEager}: 기존 방식. 동기 파일 어펜더에 INFO 로 {@code list.toString()} 을 매번 기록</li>
+ *     <li>{@code asyncEager}: 비동기 어펜더만 적용. 문자열 생성 비용은 그대로 요청 스레드에 남음</li>
+ *     <li>{@code asyncSampled}: 비동기 어펜더 + DEBUG 페이로드를 1% 만 샘플링 (기본 설정)</li>
+ * </ul>
+ * </p>
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=RequestLoggingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    @Param({"syncEager", "asyncEager", "asyncSampled"})
+    public String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path logFile;
+    private List<Quiz> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        page = new ArrayList<>();
+        for (int id = 1; id <= 20; id++) {
+            page.add(new Quiz(id, "벤치마크 퀴즈 문제 본문 " + id, id % 2 == 0, "bench"));
+        }
+
+        context = new LoggerContext();
+        logFile = Files.createTempFile("request-logging", ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d %-5level [%thread] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!mode.equals("syncEager")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        logger = context.getLogger("bench");
+        logger.setLevel(mode.equals("asyncSampled") ? Level.DEBUG : Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public int showList() {
+        switch (mode) {
+            case "syncEager", "asyncEager" -> {
+                logger.info("showList 메소드 실행됨");
+                logger.info("quizService 호출 결과 : {}", page.toString());
+            }
+            default -> {
+                logger.debug("quizService 호출 결과 : {}건", page.size());
+                if (ThreadLocalRandom.current().nextDouble() < 0.01) {
+                    logger.debug("showList 목록 : {}", page);
+                }
+            }
+        }
+        return page.size();
+    }
+}
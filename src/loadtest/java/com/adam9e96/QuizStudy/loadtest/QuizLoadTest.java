@@ -0,0 +1,185 @@
+package com.adam9e96.QuizStudy.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * play/check 부하 테스트 도구
+ *
+ * <p>
+ * 가상 스레드로 {@code concurrency} 명의 사용자를 만들어 {@code duration} 동안
+ * {@code GET /quiz/play} → {@code POST /quiz/check} 를 반복하고, 처리량과 지연 시간 백분위(p50/p99)를 출력합니다.
+ * 결과는 {@code build/loadtest/<label>.json} 에도 기록하므로 플랫폼 스레드 / 가상 스레드 실행 결과를 비교할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * {@code mode} 로 대상 경로를 고릅니다. {@code html} 은 Thymeleaf 화면({@code /quiz/play}, {@code /quiz/check}),
+ * {@code api} 는 MVC + JDBC JSON API({@code /api/quizzes/random}, {@code /api/quizzes/{id}/check}),
+ * {@code reactive} 는 R2DBC JSON API({@code /reactive/quizzes/random}, {@code /reactive/quizzes/{id}/check}) 입니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew bootRun                                            # 플랫폼 스레드
+ * ./gradlew loadTest -Plabel=platform -Pconcurrency=500
+ * ./gradlew bootRun --args='--spring.profiles.active=vthreads' # 가상 스레드
+ * ./gradlew loadTest -Plabel=vthreads -Pconcurrency=500
+ * ./gradlew loadTest -Plabel=mvc-api -Pmode=api -Pconcurrency=2000      # 같은 인스턴스에서 JSON API 비교
+ * ./gradlew loadTest -Plabel=reactive -Pmode=reactive -Pconcurrency=2000
+ * </pre>
+ */
+public class QuizLoadTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("name=\"id\" value=\"(\\d+)\"");
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("name=\"token\" value=\"([^\"]+)\"");
+    private static final Pattern JSON_ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = arg(args, 0, "http://localhost:8080");
+        int concurrency = Integer.parseInt(arg(args, 1, "200"));
+        Duration duration = Duration.parse(arg(args, 2, "PT30S"));
+        String label = arg(args, 3, "run");
+        String mode = arg(args, 4, "html");
+        String prefix = switch (mode) {
+            case "api" -> "/api/quizzes";
+            case "reactive" -> "/reactive/quizzes";
+            default -> null;
+        };
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        System.out.printf("부하 테스트 시작: %s (%s), 동시 사용자 %d, %s%n", baseUrl, mode, concurrency, duration);
+        long started = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    long[] local = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            long t0 = System.nanoTime();
+                            HttpResponse<String> play = client.send(
+                                    HttpRequest.newBuilder(URI.create(baseUrl + (prefix == null ? "/quiz/play" : prefix + "/random")))
+                                            .GET().build(),
+                                    HttpResponse.BodyHandlers.ofString());
+                            long t1 = System.nanoTime();
+                            HttpRequest checkRequest = prefix == null
+                                    ? formCheckRequest(baseUrl, play.body())
+                                    : jsonCheckRequest(baseUrl + prefix, play.body());
+                            if (play.statusCode() != 200 || checkRequest == null) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            HttpResponse<Void> check = client.send(checkRequest, HttpResponse.BodyHandlers.discarding());
+                            long t2 = System.nanoTime();
+                            if (check.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            if (count + 2 > local.length) {
+                                local = Arrays.copyOf(local, local.length * 2);
+                            }
+                            local[count++] = t1 - t0;
+                            local[count++] = t2 - t1;
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                    }
+                    samples.add(Arrays.copyOf(local, count));
+                });
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        long[] latencies = samples.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        double throughput = latencies.length / elapsedSeconds;
+        String result = String.format(Locale.ROOT,
+                "{\"label\":\"%s\",\"mode\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"errors\":%d,\"throughputPerSec\":%.1f,"
+                        + "\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"maxMillis\":%.2f}",
+                label, mode, concurrency, latencies.length, errors.get(), throughput,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        System.out.println(result);
+
+        Path output = Path.of("build", "loadtest", label + ".json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, result + System.lineSeparator());
+    }
+
+    /**
+     * play 화면에서 {@code POST /quiz/check} 요청을 만듭니다.
+     */
+    private static HttpRequest formCheckRequest(String baseUrl, String html) {
+        String form = checkForm(html);
+        if (form == null) {
+            return null;
+        }
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/quiz/check"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)).build();
+    }
+
+    /**
+     * random 응답(JSON)에서 {@code POST <prefix>/{id}/check} 요청(임의의 답)을 만듭니다.
+     */
+    private static HttpRequest jsonCheckRequest(String apiUrl, String json) {
+        Matcher id = JSON_ID_PATTERN.matcher(json);
+        if (!id.find()) {
+            return null;
+        }
+        String body = "{\"answer\":" + ThreadLocalRandom.current().nextBoolean() + "}";
+        return HttpRequest.newBuilder(URI.create(apiUrl + "/" + id.group(1) + "/check"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    /**
+     * play 화면에서 check 요청 본문(id 또는 token, 임의의 답)을 만듭니다.
+     */
+    private static String checkForm(String html) {
+        Matcher id = ID_PATTERN.matcher(html);
+        if (!id.find()) {
+            return null;
+        }
+        String answer = ThreadLocalRandom.current().nextBoolean() ? "true" : "false";
+        StringBuilder form = new StringBuilder("id=").append(id.group(1)).append("&answer=").append(answer);
+        Matcher token = TOKEN_PATTERN.matcher(html);
+        if (token.find()) {
+            form.append("&token=").append(token.group(1));
+        }
+        return form.toString();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static String arg(String[] args, int index, String defaultValue) {
+        return args.length > index ? args[index] : defaultValue;
+    }
+}
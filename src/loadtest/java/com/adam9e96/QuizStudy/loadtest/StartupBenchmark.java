@@ -0,0 +1,139 @@
+package com.adam9e96.QuizStudy.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 비교 도구
+ *
+ * <p>
+ * 애플리케이션을 실행 방식별로 {@code runs} 번씩 새로 띄우고, 프로세스 시작부터 {@code path} 에 대한
+ * 첫 HTTP 응답을 받기까지의 시간(time-to-first-request)을 잽니다. 응답 상태 코드와 관계없이 첫 응답을 기준으로 합니다.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code jar}: 실행 가능한 jar 그대로 ({@code java -jar})</li>
+ *     <li>{@code extracted}: {@code -Djarmode=tools extract} 로 푼 jar</li>
+ *     <li>{@code cds}: 푼 jar + 학습 실행으로 만든 CDS 아카이브 ({@code -XX:SharedArchiveFile})</li>
+ *     <li>{@code aot}, {@code cds-aot}: {@code -Paot} 로 빌드한 경우 위에 {@code -Dspring.aot.enabled=true} 를 더한 실행.
+ *     {@code cds-aot} 는 AOT 를 켠 학습 실행으로 만든 {@code app-aot.jsa} 를 사용</li>
+ * </ul>
+ *
+ * <p>
+ * 실행 방식별 중앙값/최솟값/최댓값은 {@code build/startup/<label>.json} 에 기록하고,
+ * 각 실행의 로그는 {@code build/startup/<variant>.log} 에 남깁니다.
+ * </p>
+ *
+ * <pre>
+ * ./gradlew startupBenchmark -Pruns=5
+ * ./gradlew startupBenchmark -Paot -Plabel=aot -PappArgs='--spring.datasource.url=jdbc:postgresql://db:5432/quiz_application'
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Path bootJar = Path.of(arg(args, 0, "build/libs/QuizStudy-0.0.1-SNAPSHOT.jar")).toAbsolutePath();
+        Path extractedJar = Path.of(arg(args, 1, "build/cds/app/QuizStudy-0.0.1-SNAPSHOT.jar")).toAbsolutePath();
+        boolean aot = Boolean.parseBoolean(arg(args, 2, "false"));
+        int runs = Math.max(1, Integer.parseInt(arg(args, 3, "5")));
+        int port = Integer.parseInt(arg(args, 4, "18080"));
+        String path = arg(args, 5, "/actuator/health");
+        String label = arg(args, 6, "startup");
+        List<String> appArgs = args.length > 7 ? Arrays.asList(args).subList(7, args.length) : List.of();
+
+        // 벤치마크와 같은 JDK 로 애플리케이션을 실행 (CDS 아카이브는 만든 JDK 에서만 유효)
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Path extractedDir = extractedJar.getParent();
+        String extractedName = extractedJar.getFileName().toString();
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        variants.put("jar", new Variant(bootJar.getParent(), List.of("-jar", bootJar.toString())));
+        variants.put("extracted", new Variant(extractedDir, List.of("-jar", extractedName)));
+        variants.put("cds", new Variant(extractedDir, List.of("-XX:SharedArchiveFile=app.jsa", "-jar", extractedName)));
+        if (aot) {
+            variants.put("aot", new Variant(bootJar.getParent(), List.of("-Dspring.aot.enabled=true", "-jar", bootJar.toString())));
+            variants.put("cds-aot", new Variant(extractedDir,
+                    List.of("-XX:SharedArchiveFile=app-aot.jsa", "-Dspring.aot.enabled=true", "-jar", extractedName)));
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        URI target = URI.create("http://localhost:" + port + path);
+        Path outputDir = Path.of("build", "startup").toAbsolutePath();
+        Files.createDirectories(outputDir);
+
+        StringJoiner result = new StringJoiner(",", "{\"label\":\"" + label + "\",\"runs\":" + runs + ",\"variants\":{", "}}");
+        for (Map.Entry<String, Variant> entry : variants.entrySet()) {
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                List<String> command = new ArrayList<>();
+                command.add(java);
+                command.addAll(entry.getValue().jvmArgs());
+                command.add("--server.port=" + port);
+                command.addAll(appArgs);
+                millis[i] = timeToFirstRequest(command, entry.getValue().workingDir(),
+                        outputDir.resolve(entry.getKey() + ".log").toFile(), client, target);
+                System.out.printf("%-10s #%d: %d ms%n", entry.getKey(), i + 1, millis[i]);
+            }
+            Arrays.sort(millis);
+            result.add(String.format(Locale.ROOT, "\"%s\":{\"medianMillis\":%d,\"minMillis\":%d,\"maxMillis\":%d}",
+                    entry.getKey(), millis[runs / 2], millis[0], millis[runs - 1]));
+        }
+        System.out.println(result);
+        Files.writeString(outputDir.resolve(label + ".json"), result + System.lineSeparator());
+    }
+
+    /**
+     * 프로세스를 띄워 첫 응답까지의 시간을 잰 뒤 종료합니다.
+     */
+    private static long timeToFirstRequest(List<String> command, Path workingDir, File log,
+                                           HttpClient client, URI target) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(5)).GET().build();
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 응답 전에 종료되었습니다 (exit " + process.exitValue() + "): " + log);
+                }
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                    Thread.sleep(10);
+                }
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private record Variant(Path workingDir, List<String> jvmArgs) {
+    }
+
+    private static String arg(String[] args, int index, String defaultValue) {
+        return args.length > index ? args[index] : defaultValue;
+    }
+}
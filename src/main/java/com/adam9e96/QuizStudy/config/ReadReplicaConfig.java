@@ -0,0 +1,93 @@
+package com.adam9e96.QuizStudy.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 설정
+ *
+ * <p>
+ * {@code quiz.datasource.replica.urls} 가 지정된 경우에만 활성화됩니다.
+ * 애플리케이션이 사용하는 {@link DataSource} 를 {@link LazyConnectionDataSourceProxy} 로 감싸,
+ * 첫 SQL 을 실행하는 시점에 트랜잭션이 읽기 전용이면 {@link ReplicaDataSource} 에서, 아니면 주 데이터베이스에서
+ * 실제 커넥션을 가져옵니다. 트랜잭션 시작 시점에는 커넥션을 가져오지 않으므로 {@code readOnly} 속성을 보고 고를 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 복제본은 비동기 복제로 따라오므로 방금 커밋한 내용이 잠시 보이지 않을 수 있습니다.
+ * 쓰기와 이벤트 반영, 트랜잭션 밖의 인덱스 재구축은 모두 주 데이터베이스를 사용합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "quiz.datasource.replica", name = "urls")
+@Log4j2
+public class ReadReplicaConfig {
+
+    /**
+     * 주 데이터베이스 커넥션 풀 ({@code spring.datasource.*})
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 커넥션 풀 묶음. 접속 계정을 따로 지정하지 않으면 주 데이터베이스와 같은 계정을 사용합니다.
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               DataSourceProperties properties,
+                                               @Value("${quiz.datasource.replica.urls}") List<String> urls,
+                                               @Value("${quiz.datasource.replica.username:}") String username,
+                                               @Value("${quiz.datasource.replica.password:}") String password,
+                                               @Value("${quiz.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                               @Value("${quiz.datasource.replica.retry-after:PT30S}") Duration retryAfter) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i).strip());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+            replica.setPassword(username.isEmpty() ? properties.determinePassword() : password);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 기동은 되도록 첫 연결을 미룸
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        log.info("읽기 전용 트랜잭션을 복제본 {}개로 분산합니다.", replicas.size());
+        return new ReplicaDataSource(primaryDataSource, replicas, retryAfter);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 {@link DataSource}. 읽기 전용 트랜잭션이면 복제본, 아니면 주 데이터베이스로 연결합니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+}
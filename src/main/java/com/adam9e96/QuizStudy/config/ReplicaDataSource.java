@@ -0,0 +1,105 @@
+package com.adam9e96.QuizStudy.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 읽기 전용 복제본 묶음 {@link DataSource}
+ *
+ * <p>
+ * 커넥션을 요청받을 때마다 복제본을 라운드 로빈으로 돌아가며 빌려 줍니다.
+ * 커넥션을 얻지 못한 복제본은 {@code retryAfter} 동안 건너뛰고,
+ * 사용할 수 있는 복제본이 하나도 없으면 주 데이터베이스의 커넥션을 대신 반환합니다.
+ * </p>
+ *
+ * <p>
+ * {@link ReadReplicaConfig} 에서 {@code LazyConnectionDataSourceProxy} 의 읽기 전용 대상으로 등록되므로,
+ * {@code @Transactional(readOnly = true)} 트랜잭션에서만 사용됩니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Log4j2
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long retryAfterMillis;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * 복제본별 다시 시도할 수 있는 시각 (epoch 밀리초). 0 이면 사용 가능
+     */
+    private final AtomicLongArray downUntil;
+
+    public ReplicaDataSource(DataSource primary, List<DataSource> replicas, Duration retryAfter) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.retryAfterMillis = retryAfter.toMillis();
+        this.downUntil = new AtomicLongArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (downUntil.get(index) > now) {
+                continue;
+            }
+            try {
+                Connection connection = open(replicas.get(index), username, password);
+                downUntil.set(index, 0);
+                return connection;
+            } catch (SQLException e) {
+                downUntil.set(index, now + retryAfterMillis);
+                log.warn("복제본 #{} 연결 실패, {}ms 동안 제외합니다: {}", index, retryAfterMillis, e.getMessage());
+            }
+        }
+        // 사용할 수 있는 복제본이 없으면 주 데이터베이스에서 읽음
+        return open(primary, username, password);
+    }
+
+    private static Connection open(DataSource dataSource, String username, String password) throws SQLException {
+        return username == null ? dataSource.getConnection() : dataSource.getConnection(username, password);
+    }
+
+    /**
+     * @return 복제본 수
+     */
+    public int size() {
+        return replicas.size();
+    }
+
+    /**
+     * 복제본 커넥션 풀을 닫습니다. (주 데이터베이스는 별도 빈으로 관리되므로 닫지 않습니다.)
+     */
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
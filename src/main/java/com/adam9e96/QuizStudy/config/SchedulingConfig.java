@@ -0,0 +1,12 @@
+package com.adam9e96.QuizStudy.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 메모리 인덱스 재동기화 등 주기 작업을 위한 스케줄링 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,260 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.DuplicateMatch;
+import com.adam9e96.QuizStudy.dto.QuizCheckRequest;
+import com.adam9e96.QuizStudy.dto.QuizCheckResult;
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.dto.QuizResource;
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.form.QuizForm;
+import com.adam9e96.QuizStudy.service.NearDuplicateIndex;
+import com.adam9e96.QuizStudy.service.QuizService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Quiz JSON API 컨트롤러 <br>
+ * 응답에는 {@code quiz.version} 으로 만든 강한 ETag 와 Last-Modified 를 붙이고,
+ * 단건 GET 은 본문과 버전을 캐시를 거치지 않고 같은 행에서 읽으며, 조건이 맞으면 직렬화 없이 304 로 응답 <br>
+ * 수정/삭제에 If-Match 를 보내면 버전이 같을 때만 처리하고 다르면 412 로 응답 <br>
+ * 등록/수정/삭제 중의 버전 조회는 복제 지연으로 옛 ETag 를 돌려주지 않도록 주 데이터베이스에서 읽음
+ *
+ * <pre>
+ * curl -i http://localhost:8080/api/quizzes/1
+ * curl -i -H 'If-None-Match: "1-0"' http://localhost:8080/api/quizzes/1
+ * curl -i -X PUT -H 'If-Match: "1-0"' -H 'Content-Type: application/json' \
+ *      -d '{"question":"...","answer":true,"author":"..."}' http://localhost:8080/api/quizzes/1
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/quizzes")
+@Log4j2
+public class QuizApiController {
+    /**
+     * DI 대상
+     */
+    @Autowired
+    QuizService quizService;
+
+    /**
+     * 유사 문제 검사 색인
+     */
+    @Autowired
+    NearDuplicateIndex nearDuplicateIndex;
+
+    /**
+     * 목록 한 페이지의 기본 퀴즈 수
+     */
+    @Value("${quiz.page.default-size:20}")
+    int defaultPageSize;
+
+    /**
+     * 키셋 페이징 목록 조회 (after / before 커서는 {@code /quiz} 화면과 같음)
+     */
+    @GetMapping
+    public ResponseEntity<QuizPage> list(@RequestParam(required = false) Integer after,
+                                         @RequestParam(required = false) Integer before,
+                                         @RequestParam(required = false) Integer size,
+                                         @RequestParam(required = false) String author,
+                                         WebRequest webRequest) {
+        QuizPage page = quizService.selectPage(after, before, size == null ? defaultPageSize : size, author);
+        List<QuizVersion> versions = quizService.selectVersions(page.content().stream().map(Quiz::getId).toList());
+        String etag = pageEtag(page, versions);
+        long lastModified = versions.stream().mapToLong(v -> v.updatedAt().toEpochMilli()).max().orElse(-1);
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+        if (lastModified > 0) {
+            response.lastModified(lastModified);
+        }
+        return response.body(page);
+    }
+
+    /**
+     * 퀴즈 1건 조회. If-None-Match / If-Modified-Since 가 맞으면 304
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<QuizResource> get(@PathVariable int id, WebRequest webRequest) {
+        Optional<VersionedQuiz> row = quizService.selectVersionedById(id);
+        if (row.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        QuizVersion current = row.get().version();
+        if (webRequest.checkNotModified(current.etag(), current.updatedAt().toEpochMilli())) {
+            return null;
+        }
+        return versioned(ResponseEntity.ok(), current).body(QuizResource.of(row.get().quiz()));
+    }
+
+    /**
+     * 무작위 퀴즈 1건 (정답 제외, 캐시 금지)
+     */
+    @GetMapping("/random")
+    public ResponseEntity<QuizResource> random(@RequestParam(required = false) String author) {
+        return quizService.selectOneRandomQuizByAuthor(author)
+                .map(quiz -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(QuizResource.forPlay(quiz)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 정답 확인
+     */
+    @PostMapping("/{id}/check")
+    public ResponseEntity<QuizCheckResult> check(@PathVariable int id, @RequestBody QuizCheckRequest request) {
+        if (request.answer() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean correct = quizService.checkQuiz(id, request.answer());
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(new QuizCheckResult(id, correct));
+    }
+
+    /**
+     * 퀴즈 등록. 201 + Location + ETag
+     */
+    @PostMapping
+    public ResponseEntity<?> create(@Validated @RequestBody QuizForm quizForm) {
+        Quiz quiz = new Quiz(null, quizForm.getQuestion(), quizForm.getAnswer(), quizForm.getAuthor());
+        Optional<DuplicateMatch> duplicate = rejectedDuplicate(quiz.getQuestion(), null);
+        if (duplicate.isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(duplicate.get());
+        }
+        quizService.insertQuiz(quiz);
+        log.debug("api insert 성공 id={}", quiz.getId());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.created(URI.create("/api/quizzes/" + quiz.getId()));
+        quizService.selectVersionForWrite(quiz.getId()).ifPresent(version -> versioned(response, version));
+        return response.body(QuizResource.of(quiz));
+    }
+
+    /**
+     * 퀴즈 수정. If-Match 가 있으면 버전이 같을 때만 수정하고 다르면 412
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> update(@PathVariable int id,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                    @Validated @RequestBody QuizForm quizForm) {
+        Quiz quiz = new Quiz(id, quizForm.getQuestion(), quizForm.getAnswer(), quizForm.getAuthor());
+        Optional<DuplicateMatch> duplicate = rejectedDuplicate(quiz.getQuestion(), id);
+        if (duplicate.isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(duplicate.get());
+        }
+
+        if (isUnconditional(ifMatch)) {
+            if (quizService.selectVersionForWrite(id).isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            quizService.updateQuiz(quiz);
+        } else {
+            long expected = QuizVersion.parseVersion(id, ifMatch);
+            if (expected < 0 || !quizService.updateQuizIfVersion(quiz, expected)) {
+                return preconditionFailed(id);
+            }
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        quizService.selectVersionForWrite(id).ifPresent(version -> versioned(response, version));
+        return response.body(QuizResource.of(quiz));
+    }
+
+    /**
+     * 퀴즈 삭제. If-Match 가 있으면 버전이 같을 때만 삭제하고 다르면 412
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable int id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (isUnconditional(ifMatch)) {
+            if (quizService.selectVersionForWrite(id).isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            quizService.deleteQuizById(id);
+        } else {
+            long expected = QuizVersion.parseVersion(id, ifMatch);
+            if (expected < 0 || !quizService.deleteQuizIfVersion(id, expected)) {
+                return preconditionFailed(id);
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 거부 모드에서 유사 문제가 있으면 반환
+     */
+    private Optional<DuplicateMatch> rejectedDuplicate(String question, Integer excludeId) {
+        if (nearDuplicateIndex.mode() != NearDuplicateIndex.Mode.REJECT) {
+            return Optional.empty();
+        }
+        return nearDuplicateIndex.findSimilar(question, excludeId);
+    }
+
+    /**
+     * 버전 불일치면 412, 퀴즈가 없으면 404
+     */
+    private <T> ResponseEntity<T> preconditionFailed(int id) {
+        if (quizService.selectVersionForWrite(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    private static boolean isUnconditional(String ifMatch) {
+        return ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.strip());
+    }
+
+    private static ResponseEntity.BodyBuilder versioned(ResponseEntity.BodyBuilder builder, QuizVersion version) {
+        return builder.eTag(version.etag())
+                .lastModified(version.updatedAt())
+                .cacheControl(CacheControl.noCache());
+    }
+
+    /**
+     * 페이지 구성(커서)과 각 행의 버전으로 목록 ETag 생성
+     */
+    private static String pageEtag(QuizPage page, List<QuizVersion> versions) {
+        Map<Integer, Long> byId = new HashMap<>(versions.size() * 2);
+        for (QuizVersion version : versions) {
+            byId.put(version.id(), version.version());
+        }
+        StringBuilder key = new StringBuilder()
+                .append(page.size()).append('|').append(page.author())
+                .append('|').append(page.prevCursor()).append('|').append(page.nextCursor());
+        for (Quiz quiz : page.content()) {
+            key.append('|').append(quiz.getId()).append(':').append(byId.getOrDefault(quiz.getId(), -1L));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"p-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.adam9e96.QuizStudy.controller;
 
+import com.adam9e96.QuizStudy.dto.DuplicateMatch;
+import com.adam9e96.QuizStudy.dto.ExamResult;
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
 import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.form.ExamForm;
 import com.adam9e96.QuizStudy.form.QuizForm;
+import com.adam9e96.QuizStudy.logging.PayloadLogSampler;
+import com.adam9e96.QuizStudy.service.AnswerTokenService;
+import com.adam9e96.QuizStudy.service.Leaderboard;
+import com.adam9e96.QuizStudy.service.NearDuplicateIndex;
+import com.adam9e96.QuizStudy.service.QuizSearchService;
 import com.adam9e96.QuizStudy.service.QuizService;
+import com.adam9e96.QuizStudy.service.ReviewScheduler;
+import jakarta.servlet.http.HttpSession;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.util.WebUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +43,74 @@ public class QuizController {
     @Autowired
     QuizService quizService;
 
+    /**
+     * 정답 토큰 발급 (quiz.token.enabled=true 일 때 사용)
+     */
+    @Autowired
+    AnswerTokenService answerTokenService;
+
+    /**
+     * 목록/폼 등 큰 페이지로드 로그의 엔드포인트별 샘플링
+     */
+    @Autowired
+    PayloadLogSampler payloadLogSampler;
+
+    /**
+     * 플레이어 점수 순위표
+     */
+    @Autowired
+    Leaderboard leaderboard;
+
+    /**
+     * 간격 반복 복습 스케줄러
+     */
+    @Autowired
+    ReviewScheduler reviewScheduler;
+
+    /**
+     * 퀴즈 본문 검색
+     */
+    @Autowired
+    QuizSearchService quizSearchService;
+
+    /**
+     * 유사 문제 검사 (quiz.duplicate.mode)
+     */
+    @Autowired
+    NearDuplicateIndex nearDuplicateIndex;
+
+    /**
+     * 렌더링된 목록 조각 캐시
+     */
+    @Autowired
+    QuizListFragmentCache quizListFragmentCache;
+
+    /**
+     * 세션에 플레이어 이름을 보관하는 속성 이름
+     */
+    static final String PLAYER_ATTRIBUTE = "player";
+
+    /**
+     * 출제 후 아직 채점하지 않은 시험지의 퀴즈 ID 목록을 보관하는 세션 속성
+     */
+    static final String EXAM_ATTRIBUTE = "exam";
+
+    /**
+     * 풀이 화면에서 출제한 뒤 아직 순위표에 반영하지 않은 정답 토큰을 보관하는 세션 속성
+     */
+    static final String PLAY_TOKEN_ATTRIBUTE = "playToken";
+
+    /**
+     * 토큰을 쓰지 않을 때 풀이 화면에서 출제한 뒤 아직 순위표에 반영하지 않은 퀴즈 ID 를 보관하는 세션 속성
+     */
+    static final String PLAY_QUIZ_ATTRIBUTE = "playQuiz";
+
+    /**
+     * 목록 기본 페이지 크기
+     */
+    @Value("${quiz.page.default-size:20}")
+    int defaultPageSize;
+
     /**
      * form-backing bean의 초기화
      */
@@ -40,21 +123,31 @@ public class QuizController {
     }
 
     /**
-     * Quiz 목록 표시
+     * Quiz 목록 표시 <br>
+     * 키셋 페이징: after(다음 페이지), before(이전 페이지) 커서와 작성자 필터를 받음
      */
     @GetMapping
-    public String showList(QuizForm quizForm, Model model) {
-        log.info("showList 메소드 실행됨");
+    public String showList(QuizForm quizForm,
+                           @RequestParam(required = false) Integer after,
+                           @RequestParam(required = false) Integer before,
+                           @RequestParam(defaultValue = "${quiz.page.default-size:20}") int size,
+                           @RequestParam(required = false) String author,
+                           Model model) {
         // 신규 등록 설정
         quizForm.setNewQuiz(true); // 신규 등록 모드 : insert mode
-        log.info("quizForm 값 : {}", quizForm.toString());
-        // 퀴즈 목록 취득
-        Iterable<Quiz> list = quizService.selectAll();
+        // 퀴즈 목록 한 페이지 취득 (같은 데이터 버전이면 렌더링된 조각을 재사용)
+        String quizListHtml = quizListFragmentCache.render(after, before, size, author, () -> {
+            QuizPage page = quizService.selectPage(after, before, size, author);
+            log.debug("quizService 호출 결과 : {}건", page.content().size());
+            if (payloadLogSampler.sample(log, "showList")) {
+                log.debug("showList 목록 : {}", page.content());
+            }
+            return page;
+        });
         // 표시용 모델에 저장
-        model.addAttribute("list", list);
+        model.addAttribute("quizListHtml", quizListHtml);
         model.addAttribute("title", "등록 폼");
         model.addAttribute("site_title", "OX 퀴즈 애플리케이션: CRUD");
-        log.info("quizService 호출 결과 : {}", list.toString());
         return "crud";
     }
 
@@ -66,22 +159,31 @@ public class QuizController {
     public String insert(@Validated QuizForm quizForm, BindingResult bindingResult,
                          Model model, RedirectAttributes redirectAttributes) {
         // Form에서 Entity로 넣기
-        log.info("quizForm 객체 : {}", quizForm.toString());
         Quiz quiz = new Quiz();
         quiz.setQuestion(quizForm.getQuestion());
         quiz.setAnswer(quizForm.getAnswer());
         quiz.setAuthor(quizForm.getAuthor());
-        log.info("엔티티에 담긴 값 : {}", quiz.toString());
+        if (payloadLogSampler.sample(log, "insert")) {
+            log.debug("quizForm 객체 : {}, 엔티티에 담긴 값 : {}", quizForm, quiz);
+        }
+
+        // 유사 문제 검사
+        Optional<DuplicateMatch> duplicate = bindingResult.hasErrors()
+                ? Optional.empty() : nearDuplicateIndex.findSimilar(quiz.getQuestion(), null);
+        if (duplicate.isPresent() && nearDuplicateIndex.mode() == NearDuplicateIndex.Mode.REJECT) {
+            bindingResult.rejectValue("question", "duplicate", duplicateMessage(duplicate.get()));
+        }
 
         // 입력 체크
         if (!bindingResult.hasErrors()) {
             quizService.insertQuiz(quiz);
             redirectAttributes.addFlashAttribute("complete", "등록이 완료되었습니다.");
-            log.info("insert 성공");
+            duplicate.ifPresent(match -> redirectAttributes.addFlashAttribute("warning", duplicateMessage(match)));
+            log.debug("insert 성공 id={}", quiz.getId());
             return "redirect:/quiz";
         } else {
             // 에러가 발생한 경우에는 목록 표시로 변경
-            return showList(quizForm, model);
+            return showList(quizForm, null, null, defaultPageSize, null, model);
         }
     }
 
@@ -97,33 +199,28 @@ public class QuizController {
      */
     @GetMapping("/{id}")
     public String showUpdate(QuizForm quizForm, @PathVariable Integer id, Model model) {
-        log.info("showUpdate 호출됨");
-        log.info("요청된 id {}", id);
-        log.info("quizForm : {}", quizForm.toString());
+        log.debug("showUpdate 요청된 id {}", id);
 
         // Quiz 를 취득(Optional 로 래핑)
         // 서비스 계층을 통해 해당 id에 해당하는 Quiz 엔티티 조회
         Optional<Quiz> quizOptional = quizService.selectOneById(id);
 
-        log.info("조회된 quiz 엔티티 {}", quizOptional.toString());
 
         // QuizForm에 채워넣기
         // 변환 : QUiz 엔티티를 quizForm으로 변환 makeQuizForm 메소드 사용
         Optional<QuizForm> quizFormOptional = quizOptional.map(t -> makeQuizForm(t));
-        log.info("quizForm으로 변환 {}", quizFormOptional.toString());
 
         // QuizForm이 null 이 아니라면 값을 취득
         if (quizFormOptional.isPresent()) {
-            log.info("before quizForm {}", quizForm.toString());
             quizForm = quizFormOptional.get();
-            log.info("after quizForm {}", quizForm.toString());
+            if (payloadLogSampler.sample(log, "showUpdate")) {
+                log.debug("showUpdate quizForm : {}", quizForm);
+            }
         }
 
         // 변경용 모델 생성
         // 변환된 quizForm을 모델에 추가
         makeUpdateModel(quizForm, model);
-        log.info("showUpdate 메소드 성공");
-        log.info("crud 이동");
         return "crud";
     }
 
@@ -135,7 +232,6 @@ public class QuizController {
         quizForm.setNewQuiz(false); // 이게 핵심. crud.html로 돌아가면 false 라서 quiz/update로 이동함(post)
         model.addAttribute("quizForm", quizForm);
         model.addAttribute("title", "변경 폼");
-        log.info("7");
     }
 
     /**
@@ -147,16 +243,24 @@ public class QuizController {
             BindingResult bindingResult,
             Model model,
             RedirectAttributes redirectAttributes) {
-        log.info("update() 실행 {}", quizForm.toString());
-        log.info("update() 실행 {}", model.toString());
+        if (payloadLogSampler.sample(log, "update")) {
+            log.debug("update() 실행 {}, model {}", quizForm, model);
+        }
 
         // QuizForm 객체를 Quiz 엔티티로 변환
         Quiz quiz = makeQuiz(quizForm);
+        // 유사 문제 검사 (자기 자신 제외)
+        Optional<DuplicateMatch> duplicate = bindingResult.hasErrors()
+                ? Optional.empty() : nearDuplicateIndex.findSimilar(quiz.getQuestion(), quiz.getId());
+        if (duplicate.isPresent() && nearDuplicateIndex.mode() == NearDuplicateIndex.Mode.REJECT) {
+            bindingResult.rejectValue("question", "duplicate", duplicateMessage(duplicate.get()));
+        }
         // 입력 체크
         if (!bindingResult.hasErrors()) {
             // 변경 처리, Flash scope를 사용해서 리다이렉트 설정
             quizService.updateQuiz(quiz);
             redirectAttributes.addFlashAttribute("complete", "변경이 완료되었습니다.");
+            duplicate.ifPresent(match -> redirectAttributes.addFlashAttribute("warning", duplicateMessage(match)));
             // 변경 화면을 표시
             return "redirect:/quiz/" + quiz.getId();
         } else {
@@ -168,6 +272,14 @@ public class QuizController {
             return "crud";
         }
     }
+
+    /**
+     * 유사 문제 안내 메시지
+     */
+    private static String duplicateMessage(DuplicateMatch match) {
+        return String.format("유사한 퀴즈(#%d, 유사도 %.0f%%)가 이미 있습니다.", match.quizId(), match.similarity() * 100);
+    }
+
     // ----- ⟦아래는 Form과 도메인 객체를 다시 채우기⟧ -----
 
     /**
@@ -212,53 +324,282 @@ public class QuizController {
      * Quiz 데이터를 랜덤으로 한 건 가져와 화면에 표시
      */
     @GetMapping("/play")
-    public String showQUiz(QuizForm quizForm, Model model) {
+    public String showQUiz(QuizForm quizForm, @RequestParam(required = false) String author,
+                           @RequestParam(defaultValue = "false") boolean adaptive,
+                           HttpSession session, Model model) {
+        model.addAttribute("player", playerName(session));
+        model.addAttribute("author", author);
+        model.addAttribute("adaptive", adaptive);
 
         // QUiz 정보 취득(Optional 으로 래핑)
-        Optional<Quiz> quizOptional = quizService.selectOneRandomQuiz();
-        log.info("랜덤으로 가져온 Quiz 정보 {}", quizOptional.toString());
+        // 작성자가 주어지면 해당 작성자의 퀴즈 중에서, adaptive 면 오답률이 높은 퀴즈 위주로 선택
+        Optional<Quiz> quizOptional = (adaptive && (author == null || author.isBlank()))
+                ? quizService.selectOneAdaptiveQuiz()
+                : quizService.selectOneRandomQuizByAuthor(author);
+        return showPlay(quizOptional, session, model);
+    }
+
+    /**
+     * 복습 모드: 간격 반복(SM-2)으로 복습할 차례인 퀴즈를 한 건 표시
+     */
+    @GetMapping("/review")
+    public String showReview(QuizForm quizForm, HttpSession session, Model model) {
+        String player = playerName(session);
+        model.addAttribute("player", player);
+        model.addAttribute("review", true);
 
+        Optional<Quiz> quizOptional = quizService.selectNextReviewQuiz(player);
+        int dueCount = reviewScheduler.dueCount(player);
+        model.addAttribute("dueCount", dueCount > ReviewScheduler.DUE_COUNT_LIMIT
+                ? ReviewScheduler.DUE_COUNT_LIMIT + "+" : String.valueOf(dueCount));
+        return showPlay(quizOptional, session, model);
+    }
+
+    /**
+     * 풀이 화면 모델 생성
+     */
+    private String showPlay(Optional<Quiz> quizOptional, HttpSession session, Model model) {
         // 같이 있는지 확인
         if (quizOptional.isPresent()) {
             // QuizForm 으로 채우기
-            Optional<QuizForm> quizFormOptional = quizOptional.map(t -> makeQuizForm(t));
-            quizForm = quizFormOptional.get();
-            log.info("play에 보여줄 quizForm 객체 : {}", quizForm.toString());
+            QuizForm quizForm = makeQuizForm(quizOptional.get());
+            if (payloadLogSampler.sample(log, "play")) {
+                log.debug("play에 보여줄 quizForm 객체 : {}", quizForm);
+            }
+            // 토큰 모드: 정답을 서명한 토큰을 폼에 넣어 check 시 재조회하지 않도록 함
+            // 출제한 토큰 / 퀴즈 ID 는 세션에 남겨 두고, 첫 채점만 순위표에 반영
+            Quiz quiz = quizOptional.get();
+            if (answerTokenService.isEnabled()) {
+                String answerToken = answerTokenService.issue(quiz.getId(), quiz.getAnswer());
+                session.setAttribute(PLAY_TOKEN_ATTRIBUTE, answerToken);
+                model.addAttribute("answerToken", answerToken);
+            } else {
+                session.setAttribute(PLAY_QUIZ_ATTRIBUTE, quiz.getId());
+            }
+            // 표시용 모델에 저장
+            model.addAttribute("quizForm", quizForm);
         } else {
             model.addAttribute("msg", "등록된 문제가 없습니다.");
-            return "play";
         }
-        // 표시용 모델에 저장
-        model.addAttribute("quizForm", quizForm);
         return "play";
     }
 
     /**
-     * 퀴즈의 정답/오답 판단
+     * 퀴즈의 정답/오답 판단 <br>
+     * 토큰이 함께 제출되면 토큰 서명으로 채점하고, 없으면 id 로 채점 <br>
+     * 순위표에는 이 세션에 마지막으로 출제한 토큰 / 퀴즈의 첫 채점만 반영함 <br>
+     * 이 세션이 출제하지 않았거나 이미 채점한 토큰은 정답 여부를 알려 주지 않음.
+     * 쿠키 없이 토큰을 재전송해 정답을 알아낸 뒤 다시 제출하는 일을 막기 위함
      */
     @PostMapping("/check")
     public String checkQuiz(
             QuizForm quizForm,
             @RequestParam Boolean answer,
+            @RequestParam(required = false) String token,
+            @RequestParam(required = false) String author,
+            @RequestParam(defaultValue = "false") boolean review,
+            @RequestParam(defaultValue = "false") boolean adaptive,
+            HttpSession session,
             Model model) {
-        if (quizService.checkQuiz(quizForm.getId(), answer)) {
+        String player = playerName(session);
+        model.addAttribute("author", author);
+        model.addAttribute("review", review);
+        model.addAttribute("adaptive", adaptive);
+        if (token != null && answerTokenService.isEnabled()) {
+            if (!consumeIssued(session, PLAY_TOKEN_ATTRIBUTE, token)) {
+                model.addAttribute("msg", "이미 채점했거나 출제되지 않은 문제입니다.");
+                model.addAttribute("score", leaderboard.get(player));
+                return "answer";
+            }
+            TokenCheckResult result = quizService.checkQuizByToken(token, answer);
+            switch (result.verdict()) {
+                case CORRECT -> model.addAttribute("msg", "정답입니다.");
+                case INCORRECT -> model.addAttribute("msg", "오답입니다.");
+                case EXPIRED -> model.addAttribute("msg", "제한 시간이 지난 문제입니다.");
+                case INVALID -> model.addAttribute("msg", "유효하지 않은 문제입니다.");
+            }
+            if (result.verdict() == TokenCheckResult.Verdict.CORRECT
+                    || result.verdict() == TokenCheckResult.Verdict.INCORRECT) {
+                leaderboard.record(player, result.isCorrect());
+                if (review) {
+                    reviewScheduler.record(player, result.quizId(), result.isCorrect());
+                }
+            }
+            model.addAttribute("score", leaderboard.get(player));
+            return "answer";
+        }
+        boolean issued = quizForm.getId() != null && consumeIssued(session, PLAY_QUIZ_ATTRIBUTE, quizForm.getId());
+        boolean correct = quizService.checkQuiz(quizForm.getId(), answer);
+        if (correct) {
             model.addAttribute("msg", "정답입니다.");
         } else {
             model.addAttribute("msg", "오답입니다.");
         }
+        if (issued) {
+            leaderboard.record(player, correct);
+        }
+        // 출제하지 않은 ID 로 카드 묶음이 한없이 커지지 않도록, 이 세션이 출제한 퀴즈만 복습 카드에 반영
+        if (review && issued) {
+            reviewScheduler.record(player, quizForm.getId(), correct);
+        }
+        model.addAttribute("score", leaderboard.get(player));
         return "answer";
     }
 
-    @GetMapping("/random")
-    public String showRandomQuizzes(Model model) {
-        log.info("showRandomQuizzes() 실행됨");
+    /**
+     * 제출된 토큰 / 퀴즈 ID 가 이 세션에 마지막으로 출제한 값이면 폐기하고 {@code true}
+     */
+    private boolean consumeIssued(HttpSession session, String attribute, Object submitted) {
+        synchronized (WebUtils.getSessionMutex(session)) {
+            if (!submitted.equals(session.getAttribute(attribute))) {
+                return false;
+            }
+            session.removeAttribute(attribute);
+            return true;
+        }
+    }
+
+    /**
+     * 플레이어 순위표 표시 (메모리의 상위 목록만 사용)
+     */
+    @GetMapping("/leaderboard")
+    public String showLeaderboard(@RequestParam(defaultValue = "20") int limit, HttpSession session, Model model) {
+        String player = playerName(session);
+        model.addAttribute("ranking", leaderboard.top(limit));
+        model.addAttribute("player", player);
+        model.addAttribute("score", leaderboard.get(player));
+        model.addAttribute("title", "순위표");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 순위표");
+        return "leaderboard";
+    }
+
+    /**
+     * 세션의 플레이어 이름 변경 (1~20자) <br>
+     * 인증이 없으므로 이미 순위표에 있는 이름으로도 바꿀 수 있으며, 그 경우 점수는 같은 이름으로 합쳐짐
+     */
+    @PostMapping("/player")
+    public String changePlayer(@RequestParam String name, HttpSession session,
+                               RedirectAttributes redirectAttributes) {
+        String trimmed = name.strip();
+        if (trimmed.isEmpty() || trimmed.length() > 20) {
+            redirectAttributes.addFlashAttribute("error", "플레이어 이름은 1~20자로 입력해 주세요.");
+        } else {
+            session.setAttribute(PLAYER_ATTRIBUTE, trimmed);
+            redirectAttributes.addFlashAttribute("complete", "플레이어 이름을 변경했습니다.");
+        }
+        return "redirect:/quiz/leaderboard";
+    }
+
+    /**
+     * 세션의 플레이어 이름. 없으면 세션 ID 로 임시 이름을 만들어 둠
+     */
+    private String playerName(HttpSession session) {
+        Object player = session.getAttribute(PLAYER_ATTRIBUTE);
+        if (player == null) {
+            player = "guest-" + session.getId().substring(0, Math.min(8, session.getId().length()));
+            session.setAttribute(PLAYER_ATTRIBUTE, player);
+        }
+        return (String) player;
+    }
 
-        List<String> randomQuizzes = quizService.getRandomQuizzes();
-        log.info("랜덤으로 선택된 퀴즈 목록: {} ", randomQuizzes);
+    /**
+     * 중복 없는 무작위 퀴즈 목록을 표시
+     */
+    @GetMapping("/random")
+    public String showRandomQuizzes(@RequestParam(defaultValue = "5") int size, Model model) {
+        List<Quiz> randomQuizzes = quizService.getRandomQuizzes(size);
+        log.debug("랜덤으로 선택된 퀴즈 수: {} ", randomQuizzes.size());
         model.addAttribute("randomQuizzes", randomQuizzes);
+        model.addAttribute("size", size);
         model.addAttribute("title", "랜덤 퀴즈 목록");
         model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 랜덤 퀴즈");
         return "randomQuizzes"; // 뷰 파일을 반환
     }
 
+    /**
+     * 시험 모드: 중복 없는 무작위 퀴즈 N 건을 한 번에 조회해 한 화면에 출제
+     */
+    @GetMapping("/exam")
+    public String showExam(@RequestParam(defaultValue = "${quiz.exam.default-size:20}") int size,
+                           HttpSession session, Model model) {
+        List<Quiz> questions = quizService.getRandomQuizzes(size);
+        // 출제한 문항을 세션에 보관하고, 제출 시에는 이 목록만 한 번 채점
+        session.setAttribute(EXAM_ATTRIBUTE, new ArrayList<>(questions.stream().map(Quiz::getId).toList()));
+        model.addAttribute("questions", questions);
+        model.addAttribute("size", size);
+        model.addAttribute("player", playerName(session));
+        model.addAttribute("title", "시험 모드");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 시험");
+        return "exam";
+    }
+
+    /**
+     * 시험 모드 답안을 한 번에 채점하고 결과 표시 <br>
+     * 세션에 보관된 시험지의 문항만 채점하며 시험지는 한 번 채점하면 폐기되므로,
+     * 같은 답안을 다시 제출하거나 임의의 ID 를 보내 점수를 올릴 수 없음
+     */
+    @PostMapping("/exam")
+    public String gradeExam(ExamForm examForm, HttpSession session, Model model,
+                            RedirectAttributes redirectAttributes) {
+        String player = playerName(session);
+        Object issued;
+        synchronized (WebUtils.getSessionMutex(session)) {
+            issued = session.getAttribute(EXAM_ATTRIBUTE);
+            session.removeAttribute(EXAM_ATTRIBUTE);
+        }
+        if (!(issued instanceof List<?> issuedIds)) {
+            redirectAttributes.addFlashAttribute("error", "이미 채점했거나 만료된 시험지입니다. 새 시험지로 다시 응시해 주세요.");
+            return "redirect:/quiz/exam";
+        }
+        List<Integer> ids = issuedIds.stream().map(Integer.class::cast).toList();
+        ExamResult result = quizService.gradeExam(ids, examForm.getAnswers());
+        for (ExamResult.Item item : result.items()) {
+            if (item.myAnswer() != null) {
+                leaderboard.record(player, item.correct());
+            }
+        }
+        log.debug("시험 채점 {}/{}", result.correct(), result.total());
+        model.addAttribute("result", result);
+        model.addAttribute("score", leaderboard.get(player));
+        model.addAttribute("title", "시험 결과");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 시험");
+        return "examResult";
+    }
+
+    /**
+     * 작성자별 퀴즈 수 표시
+     */
+    @GetMapping("/authors")
+    public String showAuthors(Model model) {
+        model.addAttribute("authors", quizService.selectAuthorCounts());
+        model.addAttribute("title", "작성자별 퀴즈");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 작성자");
+        return "authors";
+    }
+
+    /**
+     * 퀴즈 본문 검색 결과 표시 (관련도 순, page 는 0부터)
+     */
+    @GetMapping("/search")
+    public String search(@RequestParam(name = "q", required = false) String query,
+                         @RequestParam(defaultValue = "0") int page,
+                         @RequestParam(defaultValue = "${quiz.page.default-size:20}") int size,
+                         Model model) {
+        model.addAttribute("result", quizSearchService.search(query, page, size));
+        model.addAttribute("title", "퀴즈 검색");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 검색");
+        return "search";
+    }
+
+    /**
+     * 정답률이 낮은(어려운) 퀴즈 통계를 표시
+     */
+    @GetMapping("/stats")
+    public String showStats(@RequestParam(defaultValue = "50") int limit, Model model) {
+        model.addAttribute("stats", quizService.selectHardestQuizzes(limit));
+        model.addAttribute("title", "정답률 통계");
+        model.addAttribute("site_title", "OX 퀴즈 애플리케이션: 통계");
+        return "stats";
+    }
+
 }
@@ -0,0 +1,100 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.service.QuizExportService;
+import com.adam9e96.QuizStudy.service.QuizExportService.Format;
+import com.adam9e96.QuizStudy.service.QuizExportService.Permit;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Quiz 내보내기 컨트롤러 <br>
+ * {@link StreamingResponseBody} 로 응답하므로 내보내기는 MVC 비동기 실행기에서 진행되고 요청 스레드는 바로 반환됨
+ *
+ * <pre>
+ * curl -o quizzes.csv.gz 'http://localhost:8080/quiz/export?format=csv&amp;gzip=true'
+ * </pre>
+ */
+@RestController
+@RequestMapping("/quiz/export")
+@Log4j2
+public class QuizExportController {
+
+    private static final String EXPORT_PERMIT = QuizExportController.class.getName() + ".permit";
+
+    /**
+     * DI 대상
+     */
+    @Autowired
+    QuizExportService quizExportService;
+
+    /**
+     * 전체 퀴즈를 CSV 또는 NDJSON 으로 내보내기 (gzip=true 면 .gz 파일로 압축)
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            NativeWebRequest webRequest) {
+        Format exportFormat;
+        try {
+            exportFormat = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<Permit> acquired = quizExportService.tryAcquire();
+        if (acquired.isEmpty()) {
+            log.warn("동시 내보내기 한도 초과");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        Permit permit = acquired.get();
+        // 본문이 시작되지 못한 채 비동기 요청이 끝나는 경우(시간 초과, 실행기 거부, 연결 끊김)에만 권한을 반납
+        // 이미 스트리밍 중이면 커넥션을 쥔 본문이 끝날 때 반납하므로 동시 실행 한도가 지켜짐
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_PERMIT,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        permit.abandon();
+                    }
+                });
+
+        String filename = "quizzes." + exportFormat.extension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (!permit.start()) {
+                return;
+            }
+            try (permit) {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+                    quizExportService.export(gzipOut, exportFormat);
+                    gzipOut.finish();
+                } else {
+                    quizExportService.export(out, exportFormat);
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,50 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.ImportReport;
+import com.adam9e96.QuizStudy.service.QuizImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Quiz 대량 등록 컨트롤러 <br>
+ * 요청 본문을 버퍼링하지 않고 스트림 그대로 서비스에 전달
+ *
+ * <pre>
+ * curl -X POST -H 'Content-Type: text/csv' --data-binary @quizzes.csv http://localhost:8080/quiz/import
+ * curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @quizzes.ndjson http://localhost:8080/quiz/import
+ * </pre>
+ */
+@RestController
+@RequestMapping("/quiz/import")
+@Log4j2
+public class QuizImportController {
+    /**
+     * DI 대상
+     */
+    @Autowired
+    QuizImportService quizImportService;
+
+    /**
+     * CSV(question,answer,author) 대량 등록
+     */
+    @PostMapping(consumes = "text/csv")
+    public ImportReport importCsv(HttpServletRequest request) throws IOException {
+        log.info("importCsv() 실행됨");
+        return quizImportService.importCsv(request.getInputStream());
+    }
+
+    /**
+     * NDJSON(한 줄에 {"question":..,"answer":..,"author":..}) 대량 등록
+     */
+    @PostMapping(consumes = "application/x-ndjson")
+    public ImportReport importNdjson(HttpServletRequest request) throws IOException {
+        log.info("importNdjson() 실행됨");
+        return quizImportService.importNdjson(request.getInputStream());
+    }
+}
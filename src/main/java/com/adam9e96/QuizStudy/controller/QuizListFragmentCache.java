@@ -0,0 +1,172 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * CRUD 목록 조각 캐시
+ *
+ * <p>
+ * {@code /quiz} 화면의 퀴즈 목록({@code quizList.html} 의 {@code quizList} 조각)을 렌더링한 HTML 을
+ * (데이터 버전, 커서, 페이지 크기, 작성자) 를 키로 보관합니다.
+ * 같은 키로 다시 요청하면 목록 조회와 템플릿 렌더링을 모두 건너뛰고 보관된 HTML 을 그대로 출력합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>무효화:</strong> 퀴즈가 등록/수정/삭제되어 커밋되면 {@link QuizChangedEvent} 를, 대량 등록이 끝나면
+ * {@link QuizBulkImportedEvent} 를 받아 데이터 버전을 올립니다. 이전 버전의 항목은 다시 조회되지 않고
+ * 용량 제한이나 {@code quiz.fragment-cache.ttl} 에 따라 밀려납니다.
+ * 렌더링 도중 버전이 바뀌어도 결과는 렌더링을 시작할 때의 버전으로 보관되므로 옛 목록이 새 버전에 섞이지 않습니다.
+ * 다른 인스턴스에서 일어난 변경은 이벤트로 전달되지 않으므로 TTL 이 지날 때까지 반영이 늦을 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>읽기 복제본:</strong> 캐시 미스의 목록 조회는 읽기 전용이 아닌 트랜잭션으로 감싸 주 데이터베이스에서 읽습니다.
+ * 버전이 오른 직후 아직 변경을 받지 못한 복제본에서 읽으면 옛 목록이 새 버전의 키로 TTL 동안 보관되기 때문입니다.
+ * 캐시 미스는 버전이 바뀌거나 TTL 이 지났을 때만 일어나므로 주 데이터베이스에 더해지는 부하는 작습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+public class QuizListFragmentCache {
+
+    private static final String TEMPLATE = "quizList";
+    private static final Set<String> FRAGMENT = Set.of("quizList");
+
+    private final SpringTemplateEngine templateEngine;
+
+    /**
+     * 캐시 미스 조회를 주 데이터베이스에서 실행하기 위한 읽기/쓰기 트랜잭션
+     */
+    private final TransactionTemplate primaryTransaction;
+
+    private final Cache<Key, String> cache;
+
+    /**
+     * 목록 한 페이지의 최대 퀴즈 수. 조회와 같은 범위로 키의 페이지 크기를 보정합니다.
+     */
+    private final int maxPageSize;
+
+    /**
+     * 퀴즈 데이터 버전. 커밋된 변경마다 1씩 증가합니다.
+     */
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    public QuizListFragmentCache(SpringTemplateEngine templateEngine,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${quiz.fragment-cache.maximum-size:1000}") long maximumSize,
+                                 @Value("${quiz.fragment-cache.ttl:PT1M}") Duration ttl,
+                                 @Value("${quiz.page.max-size:100}") int maxPageSize) {
+        this.templateEngine = templateEngine;
+        this.maxPageSize = maxPageSize;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "quizList");
+    }
+
+    /**
+     * 목록 조각을 캐시에서 꺼내거나, 없으면 조회/렌더링하여 보관합니다.
+     *
+     * @param after  다음 페이지 커서
+     * @param before 이전 페이지 커서
+     * @param size   페이지 크기. 조회와 같이 1 이상 {@code quiz.page.max-size} 이하로 보정하여 키로 사용
+     * @param author 작성자 필터
+     * @param loader 캐시에 없을 때 목록 한 페이지를 조회하는 함수
+     * @return 렌더링된 목록 HTML
+     */
+    public String render(Integer after, Integer before, int size, String author, Supplier<QuizPage> loader) {
+        String authorKey = (author == null || author.isBlank()) ? null : author.strip();
+        // 보정 후 같은 페이지가 되는 크기(1000, 음수 등)가 각각 항목을 차지해 쓸모 있는 항목을 밀어내지 않도록 함
+        Key key = new Key(dataVersion.get(), after, before, Math.clamp(size, 1, maxPageSize), authorKey);
+        String html = cache.getIfPresent(key);
+        if (html == null) {
+            // 조회와 렌더링은 Caffeine 의 compute 밖에서 수행 (가상 스레드 고정 방지, QuizCache 참고)
+            html = renderFragment(primaryTransaction.execute(status -> loader.get()));
+            cache.put(key, html);
+        }
+        return html;
+    }
+
+    /**
+     * 요청마다 달라지는 값이 결과에 섞이지 않도록 렌더링합니다.
+     * <p>
+     * 쿠키가 없는 첫 요청에서는 서블릿 컨테이너가 {@code encodeURL} 로 링크에 {@code ;jsessionid=...} 를 붙이므로,
+     * URL 을 바꾸지 않는 응답으로 감싸고 로케일도 요청과 무관하게 고정합니다.
+     * 그렇지 않으면 한 사용자의 세션 ID 가 조각에 보관되어 같은 키를 요청한 다른 사용자에게 전달됩니다.
+     * </p>
+     */
+    private String renderFragment(QuizPage page) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        HttpServletRequest request = attributes.getRequest();
+        HttpServletResponse response = new HttpServletResponseWrapper(attributes.getResponse()) {
+            @Override
+            public String encodeURL(String url) {
+                return url;
+            }
+
+            @Override
+            public String encodeRedirectURL(String url) {
+                return url;
+            }
+        };
+        WebContext context = new WebContext(
+                JakartaServletWebApplication.buildApplication(request.getServletContext())
+                        .buildExchange(request, response),
+                Locale.ROOT,
+                Map.of("page", page, "list", page.content()));
+        return templateEngine.process(TEMPLATE, FRAGMENT, context);
+    }
+
+    /**
+     * 커밋된 퀴즈 변경마다 데이터 버전을 올립니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        dataVersion.incrementAndGet();
+    }
+
+    /**
+     * 대량 등록이 끝나면 데이터 버전을 올립니다.
+     */
+    @EventListener
+    public void onBulkImported(QuizBulkImportedEvent event) {
+        dataVersion.incrementAndGet();
+    }
+
+    private record Key(long version, Integer after, Integer before, int size, String author) {
+    }
+}
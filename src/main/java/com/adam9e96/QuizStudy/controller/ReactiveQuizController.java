@@ -0,0 +1,81 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.QuizCheckRequest;
+import com.adam9e96.QuizStudy.dto.QuizCheckResult;
+import com.adam9e96.QuizStudy.dto.QuizResource;
+import com.adam9e96.QuizStudy.service.ReactiveQuizService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 play/check/random JSON API 컨트롤러 <br>
+ * {@code /api/quizzes} 의 random/check 와 같은 응답을 {@link Mono}/{@link Flux} 로 반환하므로,
+ * R2DBC 조회를 기다리는 동안 Tomcat 요청 스레드를 반납하고 비동기로 응답 <br>
+ * {@code /play} 는 NDJSON 으로 한 건씩 내보내며 클라이언트가 읽는 속도에 맞춰 다음 퀴즈를 조회
+ *
+ * <pre>
+ * curl -i http://localhost:8080/reactive/quizzes/random
+ * curl -N http://localhost:8080/reactive/quizzes/play?size=20
+ * curl -i -X POST -H 'Content-Type: application/json' -d '{"answer":true}' http://localhost:8080/reactive/quizzes/1/check
+ * </pre>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "quiz.reactive", name = "enabled", havingValue = "true")
+@RequestMapping("/reactive/quizzes")
+public class ReactiveQuizController {
+    /**
+     * DI 대상
+     */
+    @Autowired
+    ReactiveQuizService reactiveQuizService;
+
+    /**
+     * {@code /play} 에서 size 를 생략했을 때 내보낼 퀴즈 수
+     */
+    @Value("${quiz.reactive.default-batch-size:10}")
+    int defaultBatchSize;
+
+    /**
+     * 무작위 퀴즈 1건 (정답 제외, 캐시 금지)
+     */
+    @GetMapping("/random")
+    public Mono<ResponseEntity<QuizResource>> random() {
+        return reactiveQuizService.selectOneRandomQuiz()
+                .map(quiz -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(QuizResource.forPlay(quiz)))
+                .defaultIfEmpty(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * 서로 다른 무작위 퀴즈 여러 건을 NDJSON 으로 스트리밍 (정답 제외)
+     */
+    @GetMapping(value = "/play", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<QuizResource> play(@RequestParam(required = false) Integer size) {
+        return reactiveQuizService.getRandomQuizzes(size == null ? defaultBatchSize : size)
+                .map(QuizResource::forPlay);
+    }
+
+    /**
+     * 정답 확인
+     */
+    @PostMapping("/{id}/check")
+    public Mono<ResponseEntity<QuizCheckResult>> check(@PathVariable int id, @RequestBody QuizCheckRequest request) {
+        if (request.answer() == null) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return reactiveQuizService.checkQuiz(id, request.answer())
+                .map(correct -> ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(new QuizCheckResult(id, correct)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * 작성자별 퀴즈 수입니다.
+ * </p>
+ *
+ * @param author 작성자
+ * @param count  등록한 퀴즈 수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record AuthorCount(String author, int count) {
+}
@@ -0,0 +1,15 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * 유사 문제 검사에서 찾은 가장 비슷한 기존 퀴즈입니다.
+ * </p>
+ *
+ * @param quizId     기존 퀴즈 ID
+ * @param similarity 추정 자카드 유사도 (0.0 ~ 1.0)
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record DuplicateMatch(int quizId, double similarity) {
+}
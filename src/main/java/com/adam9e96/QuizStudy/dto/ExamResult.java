@@ -0,0 +1,43 @@
+package com.adam9e96.QuizStudy.dto;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 시험 모드에서 한 번에 제출한 답안의 채점 결과입니다.
+ * </p>
+ *
+ * @param items   문항별 채점 결과 (출제 순서)
+ * @param correct 맞힌 문항 수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record ExamResult(List<Item> items, int correct) {
+
+    /**
+     * 문항 하나의 채점 결과
+     *
+     * @param quizId   퀴즈 ID
+     * @param question 퀴즈 내용
+     * @param myAnswer 제출한 답. 답하지 않았으면 {@code null}
+     * @param answer   정답
+     * @param correct  정답 여부
+     */
+    public record Item(int quizId, String question, Boolean myAnswer, boolean answer, boolean correct) {
+    }
+
+    /**
+     * @return 채점한 문항 수 (삭제된 퀴즈 제외)
+     */
+    public int total() {
+        return items.size();
+    }
+
+    /**
+     * @return 100점 만점 점수. 문항이 없으면 0
+     */
+    public int score() {
+        return items.isEmpty() ? 0 : Math.round(correct * 100f / items.size());
+    }
+}
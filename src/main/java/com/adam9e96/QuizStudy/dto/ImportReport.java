@@ -0,0 +1,35 @@
+package com.adam9e96.QuizStudy.dto;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 퀴즈 대량 등록 결과 보고서입니다.
+ * </p>
+ *
+ * @param format          입력 형식 ({@code csv} 또는 {@code ndjson})
+ * @param totalRows       읽은 데이터 행 수 (헤더 제외)
+ * @param imported        등록된 행 수
+ * @param rejected        검증 또는 저장에 실패한 행 수
+ * @param errors          행별 오류 목록 (최대 {@code quiz.import.max-reported-errors} 건)
+ * @param errorsTruncated 오류가 많아 일부만 보고되었으면 {@code true}
+ * @param warnings        등록은 되었지만 기존 퀴즈와 유사한 행 목록 (최대 {@code quiz.import.max-reported-errors} 건)
+ * @param elapsedMillis   처리 시간 (밀리초)
+ * @param rowsPerSecond   초당 등록 행 수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record ImportReport(String format, long totalRows, long imported, long rejected,
+                           List<RowError> errors, boolean errorsTruncated, List<RowError> warnings,
+                           long elapsedMillis, double rowsPerSecond) {
+
+    /**
+     * 행별 오류 / 경고
+     *
+     * @param line    입력의 줄 번호 (1부터)
+     * @param message 오류 / 경고 내용
+     */
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * 순위표의 한 줄입니다.
+ * </p>
+ *
+ * @param rank       순위 (1부터)
+ * @param player     플레이어 이름
+ * @param score      누적 정답 수
+ * @param attempts   누적 채점 수
+ * @param streak     현재 연속 정답 수
+ * @param bestStreak 최고 연속 정답 수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record LeaderboardEntry(int rank, String player, long score, long attempts, int streak, int bestStreak) {
+}
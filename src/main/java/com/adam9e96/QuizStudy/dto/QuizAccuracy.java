@@ -0,0 +1,28 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * 퀴즈 한 건의 누적 정답률입니다.
+ * </p>
+ *
+ * @param quizId   퀴즈 ID
+ * @param question 퀴즈 내용. 조회하지 못한 경우 {@code null}
+ * @param attempts 채점 횟수
+ * @param correct  정답 횟수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizAccuracy(int quizId, String question, long attempts, long correct) {
+
+    /**
+     * @return 정답률 (0.0 ~ 1.0). 채점 기록이 없으면 0
+     */
+    public double accuracy() {
+        return attempts == 0 ? 0 : (double) correct / attempts;
+    }
+
+    public QuizAccuracy withQuestion(String question) {
+        return new QuizAccuracy(quizId, question, attempts, correct);
+    }
+}
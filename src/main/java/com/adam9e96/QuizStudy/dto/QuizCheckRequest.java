@@ -0,0 +1,14 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * JSON API 채점 요청 본문입니다.
+ * </p>
+ *
+ * @param answer 사용자가 제출한 답변
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizCheckRequest(Boolean answer) {
+}
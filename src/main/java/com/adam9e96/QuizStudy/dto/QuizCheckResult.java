@@ -0,0 +1,15 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * JSON API 채점 응답 본문입니다.
+ * </p>
+ *
+ * @param id      퀴즈 ID
+ * @param correct 정답이면 {@code true}
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizCheckResult(int id, boolean correct) {
+}
@@ -0,0 +1,35 @@
+package com.adam9e96.QuizStudy.dto;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 키셋(seek) 방식으로 조회한 퀴즈 목록의 한 페이지입니다.
+ * </p>
+ *
+ * <p>
+ * 페이지 번호 대신 현재 페이지의 첫/마지막 ID 를 커서로 사용하므로,
+ * 다음 페이지는 {@code id > nextCursor}, 이전 페이지는 {@code id < prevCursor} 조건으로 조회합니다.
+ * </p>
+ *
+ * @param content    현재 페이지의 퀴즈 목록 (ID 오름차순)
+ * @param prevCursor 이전 페이지 조회에 사용할 커서. 이전 페이지가 없으면 {@code null}
+ * @param nextCursor 다음 페이지 조회에 사용할 커서. 다음 페이지가 없으면 {@code null}
+ * @param size       페이지 크기
+ * @param author     작성자 필터. 필터가 없으면 {@code null}
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizPage(List<Quiz> content, Integer prevCursor, Integer nextCursor, int size, String author) {
+
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.adam9e96.QuizStudy.dto;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * <p>
+ * JSON API 로 내려주는 퀴즈 한 건입니다.
+ * </p>
+ *
+ * <p>
+ * 풀이용 응답({@link #forPlay(Quiz)})에는 정답을 넣지 않으며, {@code null} 인 필드는 직렬화하지 않습니다.
+ * </p>
+ *
+ * @param id       퀴즈 ID
+ * @param question 질문
+ * @param answer   정답. 풀이용 응답에서는 {@code null}
+ * @param author   작성자
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record QuizResource(int id, String question, Boolean answer, String author) {
+
+    public static QuizResource of(Quiz quiz) {
+        return new QuizResource(quiz.getId(), quiz.getQuestion(), quiz.getAnswer(), quiz.getAuthor());
+    }
+
+    public static QuizResource forPlay(Quiz quiz) {
+        return new QuizResource(quiz.getId(), quiz.getQuestion(), null, quiz.getAuthor());
+    }
+}
@@ -0,0 +1,30 @@
+package com.adam9e96.QuizStudy.dto;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 퀴즈 검색 결과의 한 페이지입니다. 관련도 높은 순으로 정렬되어 있습니다.
+ * </p>
+ *
+ * @param query   검색어
+ * @param content 현재 페이지의 퀴즈 목록
+ * @param page    페이지 번호 (0부터)
+ * @param size    페이지 크기
+ * @param hasNext 다음 페이지 존재 여부
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizSearchPage(String query, List<Quiz> content, int page, int size, boolean hasNext) {
+
+    public static QuizSearchPage empty(String query, int size) {
+        return new QuizSearchPage(query, List.of(), 0, size, false);
+    }
+
+    public boolean hasPrev() {
+        return page > 0;
+    }
+}
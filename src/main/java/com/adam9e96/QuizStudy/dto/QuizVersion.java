@@ -0,0 +1,54 @@
+package com.adam9e96.QuizStudy.dto;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ * 퀴즈 한 건의 행 버전입니다.
+ * </p>
+ *
+ * <p>
+ * {@code quiz.version} 은 수정될 때마다 1씩 증가하므로, 퀴즈 ID 와 함께 쓰면 내용 전체를 읽지 않고도
+ * 변경 여부를 판단할 수 있는 강한 ETag 가 됩니다.
+ * </p>
+ *
+ * @param id        퀴즈 ID
+ * @param version   행 버전
+ * @param updatedAt 마지막 변경 시각
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizVersion(int id, long version, Instant updatedAt) {
+
+    /**
+     * @return 따옴표를 포함한 강한 ETag. 예: {@code "12-3"}
+     */
+    public String etag() {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * {@code If-Match} 헤더 값에서 이 퀴즈의 버전을 꺼냅니다.
+     *
+     * @param id      퀴즈 ID
+     * @param ifMatch {@code If-Match} 헤더 값
+     * @return 헤더에 담긴 버전. 다른 퀴즈의 ETag 이거나 형식이 맞지 않으면 {@code -1}
+     */
+    public static long parseVersion(int id, String ifMatch) {
+        String value = ifMatch.strip();
+        if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return -1;
+        }
+        String prefix = id + "-";
+        String tag = value.substring(1, value.length() - 1);
+        if (!tag.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(tag.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.adam9e96.QuizStudy.dto;
+
+/**
+ * <p>
+ * 서명된 정답 토큰으로 채점한 결과입니다.
+ * </p>
+ *
+ * @param verdict 채점 결과
+ * @param quizId  토큰에 담긴 퀴즈 ID. 토큰이 유효하지 않으면 {@code -1}
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record TokenCheckResult(Verdict verdict, int quizId) {
+
+    /**
+     * 채점 결과 종류
+     */
+    public enum Verdict {
+        /** 정답 */
+        CORRECT,
+        /** 오답 */
+        INCORRECT,
+        /** 서명이 맞지 않거나 형식이 잘못된 토큰 */
+        INVALID,
+        /** 유효 기간이 지난 토큰 */
+        EXPIRED
+    }
+
+    public static TokenCheckResult invalid() {
+        return new TokenCheckResult(Verdict.INVALID, -1);
+    }
+
+    public boolean isCorrect() {
+        return verdict == Verdict.CORRECT;
+    }
+}
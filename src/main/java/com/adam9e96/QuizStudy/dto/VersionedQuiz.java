@@ -0,0 +1,22 @@
+package com.adam9e96.QuizStudy.dto;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+
+/**
+ * <p>
+ * 같은 행에서 함께 읽은 퀴즈 내용과 행 버전입니다.
+ * </p>
+ *
+ * <p>
+ * 응답 본문과 ETag 를 서로 다른 조회(캐시와 데이터베이스)에서 가져오면 새 ETag 에 옛 본문이 붙을 수 있으므로,
+ * 강한 ETag 를 붙이는 단건 응답은 이 값 하나로 본문과 헤더를 만듭니다.
+ * </p>
+ *
+ * @param quiz    퀴즈
+ * @param version 행 버전
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record VersionedQuiz(Quiz quiz, QuizVersion version) {
+}
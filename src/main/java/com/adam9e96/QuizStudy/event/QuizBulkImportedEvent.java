@@ -0,0 +1,19 @@
+package com.adam9e96.QuizStudy.event;
+
+/**
+ * <p>
+ * 대량 등록({@code /quiz/import})이 끝났음을 알리는 애플리케이션 이벤트입니다.
+ * </p>
+ *
+ * <p>
+ * 대량 등록은 {@code COPY} 등으로 ID 를 돌려받지 않고 적재하므로 건별 {@link QuizChangedEvent} 대신 이 이벤트를 발행하며,
+ * 메모리 인덱스들은 이 이벤트를 받으면 데이터베이스에서 다시 재구축합니다.
+ * </p>
+ *
+ * @param imported 등록된 퀴즈 수
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizBulkImportedEvent(long imported) {
+}
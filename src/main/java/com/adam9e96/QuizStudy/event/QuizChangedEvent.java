@@ -0,0 +1,42 @@
+package com.adam9e96.QuizStudy.event;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+
+/**
+ * <p>
+ * 퀴즈 데이터가 등록, 수정, 삭제되었음을 알리는 애플리케이션 이벤트입니다.
+ * </p>
+ *
+ * <p>
+ * {@link com.adam9e96.QuizStudy.service.QuizServiceImpl} 이 변경 직후 발행하며,
+ * 메모리 상의 인덱스들은 {@code @TransactionalEventListener} 로 이 이벤트를 받아 커밋 이후에 상태를 동기화합니다.
+ * </p>
+ *
+ * @param type 변경 종류
+ * @param id   변경된 퀴즈의 고유 ID
+ * @param quiz 변경 후의 퀴즈 정보. 삭제인 경우 {@code null}
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record QuizChangedEvent(Type type, Integer id, Quiz quiz) {
+
+    /**
+     * 퀴즈 변경 종류
+     */
+    public enum Type {
+        INSERTED, UPDATED, DELETED
+    }
+
+    public static QuizChangedEvent inserted(Quiz quiz) {
+        return new QuizChangedEvent(Type.INSERTED, quiz.getId(), quiz);
+    }
+
+    public static QuizChangedEvent updated(Quiz quiz) {
+        return new QuizChangedEvent(Type.UPDATED, quiz.getId(), quiz);
+    }
+
+    public static QuizChangedEvent deleted(Integer id) {
+        return new QuizChangedEvent(Type.DELETED, id, null);
+    }
+}
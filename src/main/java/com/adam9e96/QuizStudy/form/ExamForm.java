@@ -0,0 +1,31 @@
+package com.adam9e96.QuizStudy.form;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * 시험 모드 답안지 폼입니다.
+ * </p>
+ *
+ * <p>
+ * 답안은 {@code answers[퀴즈 ID]=true|false} 형식으로 제출됩니다.
+ * 채점할 문항은 출제 시 세션에 보관한 목록을 사용하므로 폼으로 받지 않으며, 목록에 없는 ID 의 답은 무시됩니다.
+ * 답하지 않은 문항은 {@code answers} 에 들어 있지 않으며 오답으로 채점됩니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Data
+@NoArgsConstructor
+public class ExamForm {
+    /**
+     * 퀴즈 ID 별 제출한 답
+     */
+    private Map<Integer, Boolean> answers = new LinkedHashMap<>();
+}
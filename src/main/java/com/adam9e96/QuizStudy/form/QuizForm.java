@@ -2,6 +2,7 @@ package com.adam9e96.QuizStudy.form;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -55,10 +56,11 @@ public class QuizForm {
      * 퀴즈를 작성한 사용자의 이름입니다.
      * <p>
      * 사용자로부터 입력받은 작성자 이름을 저장합니다.
-     * 이 필드는 필수 입력 항목으로, 비어 있을 수 없습니다.
+     * 이 필드는 필수 입력 항목으로, 비어 있을 수 없으며 `quiz.author` 컬럼 길이(20자)를 넘을 수 없습니다.
      * </p>
      */
     @NotBlank(message = "작성자 이름은 필수 입력 항목입니다.")
+    @Size(max = 20, message = "작성자 이름은 20자 이하로 입력해야 합니다.")
     private String author;
 
     /**
@@ -0,0 +1,75 @@
+package com.adam9e96.QuizStudy.logging;
+
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대용량 페이로드 로그 샘플러
+ *
+ * <p>
+ * 목록, 폼, 모델처럼 문자열로 만드는 비용이 큰 값은 요청마다 남기지 않고 엔드포인트별 비율로만 남깁니다.
+ * DEBUG 레벨이 꺼져 있으면 난수도 뽑지 않고 {@code false} 를 반환하므로, 호출부에서
+ * {@code if (sampler.sample(log, "showList")) { log.debug(...); }} 처럼 감싸면 비활성 시 비용은 레벨 확인 한 번입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>설정:</strong>
+ * <ul>
+ *     <li>{@code quiz.logging.payload-sample-rate}: 기본 비율 (0.0 ~ 1.0)</li>
+ *     <li>{@code quiz.logging.payload-sample-rates}: 엔드포인트별 비율. 예) {@code showList:0.01,update:1.0}</li>
+ * </ul>
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+public class PayloadLogSampler {
+
+    private final double defaultRate;
+
+    private final Map<String, Double> rates;
+
+    public PayloadLogSampler(@Value("${quiz.logging.payload-sample-rate:0.01}") double defaultRate,
+                             @Value("${quiz.logging.payload-sample-rates:}") String rates) {
+        this.defaultRate = defaultRate;
+        this.rates = parseRates(rates);
+    }
+
+    private static Map<String, Double> parseRates(String spec) {
+        Map<String, Double> parsed = new HashMap<>();
+        if (spec == null || spec.isBlank()) {
+            return parsed;
+        }
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.strip();
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("quiz.logging.payload-sample-rates 형식은 '엔드포인트:비율' 입니다: " + trimmed);
+            }
+            parsed.put(trimmed.substring(0, separator), Double.parseDouble(trimmed.substring(separator + 1)));
+        }
+        return parsed;
+    }
+
+    /**
+     * 이번 요청의 페이로드를 로그로 남길지 결정합니다.
+     *
+     * @param logger   페이로드를 남길 로거. DEBUG 가 꺼져 있으면 항상 {@code false}
+     * @param endpoint 엔드포인트 이름 (컨트롤러 메서드 이름)
+     * @return 로그를 남겨야 하면 {@code true}
+     */
+    public boolean sample(Logger logger, String endpoint) {
+        if (!logger.isDebugEnabled()) {
+            return false;
+        }
+        double rate = rates.getOrDefault(endpoint, defaultRate);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
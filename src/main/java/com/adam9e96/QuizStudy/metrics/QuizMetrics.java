@@ -0,0 +1,89 @@
+package com.adam9e96.QuizStudy.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 퀴즈 도메인 카운터 모음
+ *
+ * <p>
+ * 호출마다 {@link MeterRegistry} 에서 찾지 않도록 모든 카운터를 생성 시점에 등록해 둡니다.
+ * </p>
+ *
+ * <p>
+ * <strong>카운터:</strong>
+ * <ul>
+ *     <li>{@code quiz.answers} (result=correct|incorrect, source=index|database|token): 채점 결과와 정답 출처</li>
+ *     <li>{@code quiz.random.selections} (path=index|evicted|sql): 무작위 선택이 거친 경로.
+ *     {@code evicted} 는 인덱스에 남아 있던 삭제된 ID 를 고른 경우, {@code sql} 은 SQL 무작위 조회로 대체한 경우입니다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+public class QuizMetrics {
+
+    /**
+     * 정답 출처
+     */
+    public enum AnswerSource {
+        INDEX, DATABASE, TOKEN
+    }
+
+    /**
+     * 무작위 선택 경로
+     */
+    public enum RandomPath {
+        INDEX, EVICTED, SQL
+    }
+
+    private final Counter[][] answers = new Counter[AnswerSource.values().length][2];
+    private final Counter[] randomSelections = new Counter[RandomPath.values().length];
+
+    public QuizMetrics(MeterRegistry meterRegistry) {
+        for (AnswerSource source : AnswerSource.values()) {
+            String sourceTag = source.name().toLowerCase(Locale.ROOT);
+            answers[source.ordinal()][0] = Counter.builder("quiz.answers")
+                    .description("채점한 답변 수")
+                    .tag("result", "incorrect")
+                    .tag("source", sourceTag)
+                    .register(meterRegistry);
+            answers[source.ordinal()][1] = Counter.builder("quiz.answers")
+                    .description("채점한 답변 수")
+                    .tag("result", "correct")
+                    .tag("source", sourceTag)
+                    .register(meterRegistry);
+        }
+        for (RandomPath path : RandomPath.values()) {
+            randomSelections[path.ordinal()] = Counter.builder("quiz.random.selections")
+                    .description("무작위 퀴즈 선택 경로별 횟수")
+                    .tag("path", path.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 채점 결과를 기록합니다.
+     *
+     * @param source  정답을 가져온 곳
+     * @param correct 정답 여부
+     */
+    public void answer(AnswerSource source, boolean correct) {
+        answers[source.ordinal()][correct ? 1 : 0].increment();
+    }
+
+    /**
+     * 무작위 선택 경로를 기록합니다.
+     *
+     * @param path 선택 경로
+     */
+    public void randomSelection(RandomPath path) {
+        randomSelections[path.ordinal()].increment();
+    }
+}
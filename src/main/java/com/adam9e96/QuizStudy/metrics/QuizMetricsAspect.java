@@ -0,0 +1,85 @@
+package com.adam9e96.QuizStudy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스/리포지토리 호출 시간 측정 애스펙트
+ *
+ * <p>
+ * {@code service} 패키지의 {@code QuizService} 구현과 {@code QuizRepository} 의 모든 메서드를 감싸
+ * 다음 타이머에 기록합니다. 모두 백분위 히스토그램을 내보내므로 Prometheus 에서
+ * {@code histogram_quantile(0.99, ...)} 로 연산별 p99 를 구할 수 있습니다.
+ * <ul>
+ *     <li>{@code quiz.service} (operation, outcome, exception)</li>
+ *     <li>{@code quiz.repository} (operation, outcome, exception)</li>
+ * </ul>
+ * 컨트롤러 단위 지연 시간은 스프링 부트가 기록하는 {@code http.server.requests} 를 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 타이머는 (이름, 연산, 예외) 조합별로 한 번만 만들어 재사용하므로 호출당 비용은 맵 조회 한 번입니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class QuizMetricsAspect {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.adam9e96.QuizStudy.service.QuizService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("quiz.service", joinPoint);
+    }
+
+    @Around("execution(* com.adam9e96.QuizStudy.repository.QuizRepository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("quiz.repository", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            timer(name, operation, exception).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String operation, String exception) {
+        String key = name + '|' + operation + '|' + exception;
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(key, k -> Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", NONE.equals(exception) ? "success" : "error")
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -1,11 +1,16 @@
 package com.adam9e96.QuizStudy.repository;
 
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
 import com.adam9e96.QuizStudy.entity.Quiz;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * <p>
@@ -39,28 +44,165 @@ public interface QuizRepository extends CrudRepository<Quiz, Integer> {
     @Query("Select q.id from quiz q order by random() limit 1")
     Integer getRandomId();
 
-//    /**
-//     * 데이터베이스의 `quiz` 테이블에서 무작위로 5개의 퀴즈를 조회합니다.
-//     * <p>
-//     * 이 메소드는 퀴즈 중 5개를 무작위로 선택하여 반환합니다.
-//     * </p>
-//     *
-//     * @param pageable 페이징 정보를 담은 {@link Pageable} 객체
-//     * @return 무작위로 선택된 5개의 {@link Quiz} 객체 목록
-//     */
-//    @Query("SELECT q.question FROM Quiz q ORDER BY random();")
-//    List<Quiz> getRandomQuestions(Pageable pageable);
+    /**
+     * 데이터베이스의 `quiz` 테이블에서 무작위로 여러 건의 퀴즈를 조회합니다.
+     * <p>
+     * 테이블 전체를 정렬하므로 무작위 선택 인덱스가 준비되기 전에만 대체 경로로 사용합니다.
+     * 평상시에는 메모리에서 고른 ID 로 {@link #findAllById(Iterable)} 를 호출합니다.
+     * </p>
+     *
+     * @param size 조회할 퀴즈 수
+     * @return 무작위로 선택된 중복 없는 {@link Quiz} 목록
+     */
+    @Query("SELECT * FROM quiz ORDER BY RANDOM() LIMIT :size")
+    List<Quiz> findRandomQuizzes(@Param("size") int size);
+
+    /**
+     * 특정 작성자의 퀴즈 중 무작위로 하나의 ID 를 조회합니다.
+     * <p>
+     * {@code (author, id)} 인덱스로 해당 작성자의 행만 읽지만 정렬 비용이 있으므로
+     * 작성자 색인이 준비되기 전에만 대체 경로로 사용합니다.
+     * </p>
+     *
+     * @param author 작성자
+     * @return 무작위로 선택된 퀴즈의 ID. 해당 작성자의 퀴즈가 없으면 {@code null}
+     */
+    @Query("SELECT id FROM quiz WHERE author = :author ORDER BY RANDOM() LIMIT 1")
+    Integer getRandomIdByAuthor(@Param("author") String author);
 
     /**
-     * 데이터베이스의 `quiz` 테이블에서 무작위로 5개의 퀴즈 내용을 조회합니다.
+     * 주어진 ID 보다 큰 퀴즈를 ID 오름차순으로 조회합니다. (키셋 페이징의 다음 페이지)
      * <p>
-     * 이 메소드는 퀴즈 중 5개의 내용을 무작위로 선택하여 반환합니다.
+     * 기본 키 인덱스에서 {@code afterId} 위치로 바로 이동하므로 몇 번째 페이지든 비용이 같습니다.
      * </p>
+     *
+     * @param afterId 기준 ID. 첫 페이지는 0
+     * @param limit   조회할 최대 건수
+     * @return ID 오름차순 {@link Quiz} 목록
+     */
+    @Query("SELECT * FROM quiz WHERE id > :afterId ORDER BY id LIMIT :limit")
+    List<Quiz> findPageAfter(@Param("afterId") int afterId, @Param("limit") int limit);
+
+    /**
+     * 주어진 ID 보다 작은 퀴즈를 ID 내림차순으로 조회합니다. (키셋 페이징의 이전 페이지)
+     *
+     * @param beforeId 기준 ID
+     * @param limit    조회할 최대 건수
+     * @return ID 내림차순 {@link Quiz} 목록
+     */
+    @Query("SELECT * FROM quiz WHERE id < :beforeId ORDER BY id DESC LIMIT :limit")
+    List<Quiz> findPageBefore(@Param("beforeId") int beforeId, @Param("limit") int limit);
+
+    /**
+     * 특정 작성자의 퀴즈 중 주어진 ID 보다 큰 퀴즈를 ID 오름차순으로 조회합니다.
+     *
+     * @param author  작성자
+     * @param afterId 기준 ID. 첫 페이지는 0
+     * @param limit   조회할 최대 건수
+     * @return ID 오름차순 {@link Quiz} 목록
+     */
+    @Query("SELECT * FROM quiz WHERE author = :author AND id > :afterId ORDER BY id LIMIT :limit")
+    List<Quiz> findPageByAuthorAfter(@Param("author") String author, @Param("afterId") int afterId,
+                                     @Param("limit") int limit);
+
+    /**
+     * 특정 작성자의 퀴즈 중 주어진 ID 보다 작은 퀴즈를 ID 내림차순으로 조회합니다.
+     *
+     * @param author   작성자
+     * @param beforeId 기준 ID
+     * @param limit    조회할 최대 건수
+     * @return ID 내림차순 {@link Quiz} 목록
+     */
+    @Query("SELECT * FROM quiz WHERE author = :author AND id < :beforeId ORDER BY id DESC LIMIT :limit")
+    List<Quiz> findPageByAuthorBefore(@Param("author") String author, @Param("beforeId") int beforeId,
+                                      @Param("limit") int limit);
+
+    /**
+     * 주어진 ID 보다 작은 퀴즈가 있는지 확인합니다. (키셋 페이징의 이전 페이지 존재 여부)
+     *
+     * @param id 기준 ID
+     * @return 하나라도 있으면 {@code true}
+     */
+    @Query("SELECT EXISTS (SELECT 1 FROM quiz WHERE id < :id)")
+    boolean existsBefore(@Param("id") int id);
+
+    /**
+     * 특정 작성자의 퀴즈 중 주어진 ID 보다 작은 퀴즈가 있는지 확인합니다.
+     *
+     * @param author 작성자
+     * @param id     기준 ID
+     * @return 하나라도 있으면 {@code true}
+     */
+    @Query("SELECT EXISTS (SELECT 1 FROM quiz WHERE author = :author AND id < :id)")
+    boolean existsByAuthorBefore(@Param("author") String author, @Param("id") int id);
+
+    /**
+     * 퀴즈의 행 버전만 조회합니다.
+     *
+     * @param id 퀴즈 ID
+     * @return 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Query(value = "SELECT id, version, updated_at FROM quiz WHERE id = :id",
+            rowMapperClass = QuizVersionRowMapper.class)
+    Optional<QuizVersion> findVersionById(@Param("id") int id);
+
+    /**
+     * 퀴즈 내용과 행 버전을 한 행에서 함께 조회합니다.
+     *
+     * @param id 퀴즈 ID
+     * @return 퀴즈와 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Query(value = "SELECT id, question, answer, author, version, updated_at FROM quiz WHERE id = :id",
+            rowMapperClass = VersionedQuizRowMapper.class)
+    Optional<VersionedQuiz> findVersionedById(@Param("id") int id);
+
+    /**
+     * 여러 퀴즈의 행 버전만 조회합니다.
+     *
+     * @param ids 퀴즈 ID 목록
+     * @return 존재하는 퀴즈의 행 버전 목록 (순서 보장 없음)
+     */
+    @Query(value = "SELECT id, version, updated_at FROM quiz WHERE id IN (:ids)",
+            rowMapperClass = QuizVersionRowMapper.class)
+    List<QuizVersion> findVersionsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * 퀴즈의 행 버전을 1 올리고 변경 시각을 갱신합니다.
      * <p>
-     * //     * @param pageable 페이징 정보를 담은 {@link Pageable} 객체
+     * {@code save()} 는 매핑된 컬럼만 갱신하므로 수정 직후 같은 트랜잭션에서 호출합니다.
+     * </p>
+     *
+     * @param id 퀴즈 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE quiz SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = :id")
+    int incrementVersion(@Param("id") int id);
+
+    /**
+     * 행 버전이 일치할 때만 퀴즈를 수정합니다. (낙관적 잠금)
+     *
+     * @param id       퀴즈 ID
+     * @param question 질문
+     * @param answer   정답
+     * @param author   작성자
+     * @param version  클라이언트가 알고 있는 행 버전
+     * @return 갱신된 행 수. 버전이 다르거나 퀴즈가 없으면 {@code 0}
+     */
+    @Modifying
+    @Query("UPDATE quiz SET question = :question, answer = :answer, author = :author, "
+            + "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = :id AND version = :version")
+    int updateIfVersion(@Param("id") int id, @Param("question") String question, @Param("answer") boolean answer,
+                        @Param("author") String author, @Param("version") long version);
+
+    /**
+     * 행 버전이 일치할 때만 퀴즈를 삭제합니다. (낙관적 잠금)
      *
-     * @return 무작위로 선택된 5개의 퀴즈 내용 {@link List<String>} 목록
+     * @param id      퀴즈 ID
+     * @param version 클라이언트가 알고 있는 행 버전
+     * @return 삭제된 행 수. 버전이 다르거나 퀴즈가 없으면 {@code 0}
      */
-    @Query("SELECT q.question FROM Quiz q ORDER BY RANDOM() limit 5")
-    List<String> getRandomQuestions();
+    @Modifying
+    @Query("DELETE FROM quiz WHERE id = :id AND version = :version")
+    int deleteIfVersion(@Param("id") int id, @Param("version") long version);
 }
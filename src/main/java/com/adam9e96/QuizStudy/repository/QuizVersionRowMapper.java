@@ -0,0 +1,24 @@
+package com.adam9e96.QuizStudy.repository;
+
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * {@code id, version, updated_at} 세 컬럼만 조회하는 쿼리의 결과를 {@link QuizVersion} 으로 변환합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class QuizVersionRowMapper implements RowMapper<QuizVersion> {
+
+    @Override
+    public QuizVersion mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new QuizVersion(rs.getInt("id"), rs.getLong("version"), rs.getTimestamp("updated_at").toInstant());
+    }
+}
@@ -0,0 +1,125 @@
+package com.adam9e96.QuizStudy.repository;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * <p>
+ * `Quiz` 조회용 R2DBC 리포지토리입니다.
+ * {@link QuizRepository} 중 play/check/random 경로에 필요한 조회만 같은 SQL 로 제공하며,
+ * 커넥션을 기다리거나 결과를 받는 동안 호출 스레드를 막지 않습니다.
+ * </p>
+ *
+ * <p>
+ * Spring Data R2DBC 리포지토리 대신 {@link DatabaseClient} 를 직접 사용합니다.
+ * Spring Data 모듈이 둘 이상 있으면 리포지토리 저장소 판별이 엄격 모드로 바뀌어
+ * {@code @Table} 이 없는 {@link Quiz} 의 JDBC 리포지토리가 등록되지 않을 수 있기 때문입니다.
+ * </p>
+ *
+ * <p>
+ * {@code quiz.reactive.enabled=true} 일 때만 등록되며, 커넥션 풀은 {@code quiz.reactive.r2dbc.*} 로 직접 만들어 빈으로 노출하지 않습니다.
+ * {@code ConnectionFactory} 빈이 있으면 Spring Boot 의 JDBC {@code DataSource} 자동 설정이 물러나
+ * {@link QuizRepository} 와 {@code JdbcTemplate} 사용처가 모두 동작하지 않기 때문입니다.
+ * 같은 이유로 {@code R2dbcAutoConfiguration} 은 application.properties 에서 제외되어 있습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Repository
+@ConditionalOnProperty(prefix = "quiz.reactive", name = "enabled", havingValue = "true")
+public class ReactiveQuizRepository {
+
+    private static final String COLUMNS = "id, question, answer, author";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient client;
+
+    @Autowired
+    public ReactiveQuizRepository(@Value("${quiz.reactive.r2dbc.url}") String url,
+                                  @Value("${quiz.reactive.r2dbc.username:}") String username,
+                                  @Value("${quiz.reactive.r2dbc.password:}") String password,
+                                  @Value("${quiz.reactive.r2dbc.max-pool-size:20}") int maxPoolSize) {
+        this(pool(url, username, password, maxPoolSize));
+    }
+
+    public ReactiveQuizRepository(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        this.client = DatabaseClient.create(connectionFactory);
+    }
+
+    private static ConnectionFactory pool(String url, String username, String password, int maxPoolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-quiz")
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    /**
+     * 직접 만든 커넥션 풀을 닫습니다.
+     */
+    @PreDestroy
+    public void close() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    /**
+     * @param id 퀴즈 ID
+     * @return 조회된 퀴즈. 없으면 빈 {@link Mono}
+     */
+    public Mono<Quiz> findById(int id) {
+        return client.sql("SELECT " + COLUMNS + " FROM quiz WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveQuizRepository::toQuiz)
+                .one();
+    }
+
+    /**
+     * @return 무작위로 선택된 퀴즈 ID. 퀴즈가 없으면 빈 {@link Mono}
+     */
+    public Mono<Integer> getRandomId() {
+        return client.sql("SELECT id FROM quiz ORDER BY RANDOM() LIMIT 1")
+                .map(row -> row.get("id", Integer.class))
+                .one();
+    }
+
+    /**
+     * @param size 조회할 퀴즈 수
+     * @return 무작위로 선택된 퀴즈. 구독자가 요청한 만큼만 행을 받아 옵니다.
+     */
+    public Flux<Quiz> findRandomQuizzes(int size) {
+        return client.sql("SELECT " + COLUMNS + " FROM quiz ORDER BY RANDOM() LIMIT :size")
+                .bind("size", size)
+                .map(ReactiveQuizRepository::toQuiz)
+                .all();
+    }
+
+    private static Quiz toQuiz(Readable row) {
+        return new Quiz(row.get("id", Integer.class),
+                row.get("question", String.class),
+                row.get("answer", Boolean.class),
+                row.get("author", String.class));
+    }
+}
@@ -0,0 +1,29 @@
+package com.adam9e96.QuizStudy.repository;
+
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * <p>
+ * {@code id, question, answer, author, version, updated_at} 를 조회하는 쿼리의 결과를 {@link VersionedQuiz} 로 변환합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class VersionedQuizRowMapper implements RowMapper<VersionedQuiz> {
+
+    private final QuizVersionRowMapper versionRowMapper = new QuizVersionRowMapper();
+
+    @Override
+    public VersionedQuiz mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Quiz quiz = new Quiz(rs.getInt("id"), rs.getString("question"), rs.getBoolean("answer"), rs.getString("author"));
+        return new VersionedQuiz(quiz, versionRowMapper.mapRow(rs, rowNum));
+    }
+}
@@ -0,0 +1,139 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.QuizAccuracy;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오답률 가중 무작위 선택 엔진
+ *
+ * <p>
+ * 퀴즈마다 누적 오답률에 비례하는 가중치를 주어 어려운 문제가 더 자주 나오게 합니다.
+ * 가중치는 채점 기록이 적은 퀴즈가 극단값을 갖지 않도록 사전 분포 Beta(1, 1) 로 보정한
+ * {@code (오답 + 1) / (채점 + 2)} 를 쓰며, 쉬운 문제도 가끔은 나오도록 {@code quiz.adaptive.min-weight} 아래로 내리지 않습니다.
+ * 한 번도 채점되지 않은 퀴즈는 0.5 입니다.
+ * </p>
+ *
+ * <p>
+ * 추출은 {@link AliasTable} 로 O(1) 이므로 퀴즈 수가 늘어도 {@code /quiz/play} 가 느려지지 않습니다.
+ * 테이블은 {@code quiz.adaptive.rebuild-interval} 마다 백그라운드에서 {@link RandomQuizSelector} 의 ID 와
+ * {@link AttemptStats} 의 집계로 다시 만들어 한 번에 교체하며, 그 사이 채점이나 퀴즈 변경이 없었으면 건너뜁니다.
+ * 아직 테이블이 없으면 빈 결과를 반환하므로 호출하는 쪽에서 균등 선택으로 대체합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class AdaptiveQuizSelector {
+
+    private final RandomQuizSelector randomQuizSelector;
+    private final AttemptStats attemptStats;
+    private final double minWeight;
+
+    /**
+     * 현재 별칭 테이블 (불변, 통째로 교체)
+     */
+    private volatile AliasTable table = AliasTable.EMPTY;
+
+    /**
+     * 마지막 재구축 시점의 전체 채점 횟수
+     */
+    private long builtAttempts = -1;
+
+    /**
+     * 마지막 재구축 이후 퀴즈가 등록/삭제되었는지 여부
+     */
+    private volatile boolean quizzesChanged = true;
+
+    public AdaptiveQuizSelector(RandomQuizSelector randomQuizSelector,
+                                AttemptStats attemptStats,
+                                @Value("${quiz.adaptive.min-weight:0.05}") double minWeight) {
+        this.randomQuizSelector = randomQuizSelector;
+        this.attemptStats = attemptStats;
+        this.minWeight = minWeight;
+    }
+
+    /**
+     * 채점 집계나 퀴즈 목록이 바뀌었으면 별칭 테이블을 다시 만듭니다. O(n)
+     * <p>
+     * {@link RandomQuizSelector} 가 아직 준비되지 않았으면 다음 주기로 미룹니다.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${quiz.adaptive.initial-delay:PT5S}",
+            fixedDelayString = "${quiz.adaptive.rebuild-interval:PT30S}")
+    public synchronized void rebuild() {
+        if (!randomQuizSelector.isLoaded()) {
+            return;
+        }
+        long attempts = attemptStats.totalAttempts();
+        if (!quizzesChanged && attempts == builtAttempts) {
+            return;
+        }
+        quizzesChanged = false;
+
+        int[] ids = randomQuizSelector.snapshot();
+        double[] weights = new double[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            weights[i] = weight(attemptStats.get(ids[i]));
+        }
+        table = new AliasTable(ids, weights);
+        builtAttempts = attempts;
+        log.debug("오답률 가중 테이블 재구축: {}건", ids.length);
+    }
+
+    /**
+     * 퀴즈 하나의 가중치. 보정한 오답률과 최소 가중치 중 큰 값입니다.
+     */
+    double weight(QuizAccuracy accuracy) {
+        double wrong = accuracy.attempts() - accuracy.correct();
+        return Math.max(minWeight, (wrong + 1.0) / (accuracy.attempts() + 2.0));
+    }
+
+    /**
+     * 커밋된 퀴즈 등록/삭제를 다음 재구축에 반영하도록 표시합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        if (event.type() != QuizChangedEvent.Type.UPDATED) {
+            quizzesChanged = true;
+        }
+    }
+
+    /**
+     * 대량 등록 후 다음 재구축에 반영하도록 표시합니다.
+     */
+    @EventListener(QuizBulkImportedEvent.class)
+    public void onBulkImported() {
+        quizzesChanged = true;
+    }
+
+    /**
+     * 오답률에 비례하는 확률로 퀴즈 ID 하나를 고릅니다.
+     *
+     * @return 선택된 퀴즈 ID. 테이블이 아직 없거나 비어 있으면 빈 {@link OptionalInt}
+     */
+    public OptionalInt pick() {
+        return table.sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     * 이미 삭제된 ID 를 고른 경우 다음 재구축에서 빠지도록 표시합니다.
+     *
+     * @param id 삭제된 퀴즈 ID
+     */
+    public void evict(int id) {
+        quizzesChanged = true;
+    }
+}
@@ -0,0 +1,107 @@
+package com.adam9e96.QuizStudy.service;
+
+import java.util.OptionalInt;
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>
+ * 가중치가 있는 퀴즈 ID 표본 추출용 별칭(alias) 테이블입니다.
+ * </p>
+ *
+ * <p>
+ * Vose 의 별칭 방법으로 구성합니다. 가중치를 평균이 1 이 되도록 나눈 뒤,
+ * 1 보다 작은 칸을 1 보다 큰 칸의 몫으로 채워 모든 칸이 "자기 자신 또는 별칭 하나" 로만 이루어지게 만듭니다.
+ * 구성은 O(n), 추출은 칸 하나를 고르고 난수 하나로 자신/별칭을 정하는 O(1) 입니다.
+ * </p>
+ *
+ * <p>
+ * 구성 후에는 바뀌지 않으므로 여러 스레드가 동기화 없이 공유할 수 있습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class AliasTable {
+
+    static final AliasTable EMPTY = new AliasTable(new int[0], new double[0]);
+
+    private final int[] ids;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param ids     퀴즈 ID
+     * @param weights 각 ID 의 가중치 (0 이상, {@code ids} 와 같은 길이)
+     */
+    AliasTable(int[] ids, double[] weights) {
+        if (ids.length != weights.length) {
+            throw new IllegalArgumentException("ID 와 가중치 개수가 다릅니다.");
+        }
+        int n = ids.length;
+        this.ids = ids.clone();
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double sum = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight)) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + weight);
+            }
+            sum += weight;
+        }
+
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int i = 0; i < n; i++) {
+            // 가중치 합이 0 이면 균등 분포
+            scaled[i] = sum > 0 ? weights[i] * n / sum : 1.0;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 남은 칸은 부동소수점 오차만 남은 것이므로 확률 1 로 둡니다.
+        while (largeSize > 0) {
+            probability[large[--largeSize]] = 1.0;
+        }
+        while (smallSize > 0) {
+            probability[small[--smallSize]] = 1.0;
+        }
+    }
+
+    /**
+     * 가중치에 비례하는 확률로 ID 하나를 뽑습니다.
+     *
+     * @param random 난수 생성기
+     * @return 뽑힌 ID. 테이블이 비어 있으면 빈 {@link OptionalInt}
+     */
+    OptionalInt sample(RandomGenerator random) {
+        int n = ids.length;
+        if (n == 0) {
+            return OptionalInt.empty();
+        }
+        int column = random.nextInt(n);
+        return OptionalInt.of(random.nextDouble() < probability[column] ? ids[column] : ids[alias[column]]);
+    }
+
+    int size() {
+        return ids.length;
+    }
+}
@@ -0,0 +1,197 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 퀴즈 정답 인덱스
+ *
+ * <p>
+ * 퀴즈 ID 를 비트 위치로 사용하여 정답을 {@link BitSet} 두 개에 보관합니다.
+ * {@code present} 는 해당 ID 의 정답을 알고 있는지, {@code answers} 는 그 정답이 참(O)인지를 나타냅니다.
+ * 1M 건 기준 약 250KB 로 전체 정답을 메모리에 올려 {@code checkQuiz} 가 데이터베이스를 거치지 않게 합니다.
+ * </p>
+ *
+ * <p>
+ * 조회({@link #lookup(int)})는 객체를 생성하지 않으며, 기동 시 재구축 / 커밋 이후 이벤트 반영 /
+ * 주기적 재동기화 방식은 {@link RandomQuizSelector} 와 같습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class AnswerIndex implements RebuildableIndex {
+
+    /**
+     * 정답을 알 수 없음 (인덱스에 없음)
+     */
+    public static final int UNKNOWN = -1;
+    /**
+     * 정답이 거짓(X)
+     */
+    public static final int FALSE = 0;
+    /**
+     * 정답이 참(O)
+     */
+    public static final int TRUE = 1;
+
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * 정답이 등록된 ID 집합. {@link #lock} 으로 보호됩니다.
+     */
+    private BitSet present = new BitSet();
+
+    /**
+     * 정답이 참(O)인 ID 집합. {@link #lock} 으로 보호됩니다.
+     */
+    private BitSet answers = new BitSet();
+
+    /**
+     * 삭제된 ID 집합(tombstone). 삭제 전에 시작된 조회가 {@link #putIfAbsent(Quiz)} 로 정답을 되살리지 않도록 남겨 둡니다.
+     * ID 는 재사용되지 않으므로 다시 등록 이벤트가 오거나 재구축 스캔에서 발견될 때만 지웁니다. {@link #lock} 으로 보호됩니다.
+     */
+    private BitSet deleted = new BitSet();
+
+    /**
+     * 진행 중인 재구축이 소유한 변경 기록. 재구축 중이 아니면 {@code null} 입니다. {@link #lock} 으로 보호됩니다.
+     */
+    private List<QuizChangedEvent> pendingChanges;
+
+    /**
+     * 정답 인덱스 재구축을 시작합니다.
+     */
+    @Override
+    public Rebuild beginRebuild() {
+        List<QuizChangedEvent> journal = new ArrayList<>();
+        long stamp = lock.writeLock();
+        try {
+            pendingChanges = journal;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        BitSet freshPresent = new BitSet();
+        BitSet freshAnswers = new BitSet();
+        return new Rebuild() {
+            @Override
+            public void add(Quiz quiz) {
+                freshPresent.set(quiz.getId());
+                freshAnswers.set(quiz.getId(), quiz.getAnswer());
+            }
+
+            @Override
+            public void commit() {
+                long stamp = lock.writeLock();
+                try {
+                    // 스캔에 나타난 ID 는 살아 있으므로 이전 tombstone 에서 제외
+                    BitSet freshDeleted = (BitSet) deleted.clone();
+                    freshDeleted.andNot(freshPresent);
+                    for (QuizChangedEvent change : journal) {
+                        apply(freshPresent, freshAnswers, freshDeleted, change);
+                    }
+                    pendingChanges = null;
+                    present = freshPresent;
+                    answers = freshAnswers;
+                    deleted = freshDeleted;
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+                log.info("정답 인덱스 재구축 완료: {}건", freshPresent.cardinality());
+            }
+
+            @Override
+            public void abort() {
+                long stamp = lock.writeLock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.unlockWrite(stamp);
+                }
+            }
+        };
+    }
+
+    /**
+     * 커밋된 퀴즈 변경을 인덱스에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        long stamp = lock.writeLock();
+        try {
+            apply(present, answers, deleted, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static void apply(BitSet present, BitSet answers, BitSet deleted, QuizChangedEvent event) {
+        int id = event.id();
+        switch (event.type()) {
+            case INSERTED, UPDATED -> {
+                present.set(id);
+                answers.set(id, Boolean.TRUE.equals(event.quiz().getAnswer()));
+                deleted.clear(id);
+            }
+            case DELETED -> {
+                present.clear(id);
+                answers.clear(id);
+                deleted.set(id);
+            }
+        }
+    }
+
+    /**
+     * 데이터베이스에서 직접 조회한 퀴즈의 정답을 인덱스에 채워 넣습니다. (캐시 미스 보충용)
+     * <p>
+     * 조회 도중 커밋된 변경 이벤트가 먼저 반영되었을 수 있으므로, 아직 정답이 없고 삭제되지 않은 경우에만 채웁니다.
+     * </p>
+     *
+     * @param quiz 조회된 퀴즈
+     */
+    public void putIfAbsent(Quiz quiz) {
+        long stamp = lock.writeLock();
+        try {
+            if (!present.get(quiz.getId()) && !deleted.get(quiz.getId())) {
+                apply(present, answers, deleted, QuizChangedEvent.updated(quiz));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 퀴즈의 정답을 조회합니다.
+     *
+     * @param id 퀴즈 ID
+     * @return {@link #TRUE}, {@link #FALSE} 또는 인덱스에 없으면 {@link #UNKNOWN}
+     */
+    public int lookup(int id) {
+        if (id < 0) {
+            return UNKNOWN;
+        }
+        long stamp = lock.readLock();
+        try {
+            if (!present.get(id)) {
+                return UNKNOWN;
+            }
+            return answers.get(id) ? TRUE : FALSE;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
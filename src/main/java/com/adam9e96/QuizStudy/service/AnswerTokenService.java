@@ -0,0 +1,248 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
+import com.adam9e96.QuizStudy.dto.TokenCheckResult.Verdict;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 서명된 정답 토큰 발급/검증 서비스
+ *
+ * <p>
+ * {@code /quiz/play} 화면에 퀴즈 ID, 유효 기간, 정답으로 만든 HMAC-SHA256 서명을 토큰으로 넣어 두면,
+ * {@code /quiz/check} 는 데이터베이스나 캐시 없이 서명만 다시 계산하여 채점할 수 있습니다.
+ * 서버 간에 공유해야 하는 상태는 서명 키뿐이므로 채점을 수평 확장할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>토큰 형식:</strong> {@code <키 ID>.<페이로드>.<서명>} (각 부분은 Base64 URL)
+ * <ul>
+ *     <li>페이로드: 퀴즈 ID(4바이트) + 만료 시각 epoch 초(8바이트)</li>
+ *     <li>서명: HMAC(키, 페이로드 + 정답 1바이트) 의 앞 16바이트</li>
+ * </ul>
+ * 정답은 토큰에 평문으로 들어가지 않고 서명 입력에만 쓰이므로 클라이언트가 토큰에서 정답을 읽을 수 없습니다.
+ * 검증 시에는 제출한 답으로 서명을 계산해 일치하면 정답, 반대 답으로 일치하면 오답, 둘 다 아니면 위조로 판단합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>키 교체:</strong> {@code quiz.token.keys=k2:BASE64,k1:BASE64} 처럼 여러 키를 지정하면
+ * 첫 번째 키로 발급하고, 나머지 키로 발급된 토큰도 유효 기간 동안 계속 검증합니다.
+ * 키를 지정하지 않으면 기동할 때마다 임의 키를 만들므로 단일 인스턴스에서만 사용해야 합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class AnswerTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_LENGTH = Integer.BYTES + Long.BYTES;
+    private static final int SIGNATURE_LENGTH = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 토큰 모드 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 토큰 유효 기간
+     */
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    /**
+     * 키 ID 별 서명 키. 첫 번째 항목이 발급에 사용하는 키입니다.
+     */
+    private final Map<String, SigningKey> keys;
+
+    private final SigningKey activeKey;
+
+    @Autowired
+    public AnswerTokenService(@Value("${quiz.token.enabled:false}") boolean enabled,
+                              @Value("${quiz.token.ttl:PT30M}") Duration ttl,
+                              @Value("${quiz.token.keys:}") String keys) {
+        this(enabled, ttl, keys, Clock.systemUTC());
+    }
+
+    AnswerTokenService(boolean enabled, Duration ttl, String keys, Clock clock) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.keys = parseKeys(keys);
+        this.activeKey = this.keys.values().iterator().next();
+    }
+
+    private static Map<String, SigningKey> parseKeys(String spec) {
+        Map<String, SigningKey> parsed = new LinkedHashMap<>();
+        if (spec != null && !spec.isBlank()) {
+            for (String entry : spec.split(",")) {
+                String trimmed = entry.strip();
+                int separator = trimmed.indexOf(':');
+                if (separator <= 0 || trimmed.indexOf('.') >= 0) {
+                    throw new IllegalArgumentException("quiz.token.keys 형식은 '키ID:Base64키' 입니다: " + trimmed);
+                }
+                String keyId = trimmed.substring(0, separator);
+                byte[] secret = Base64.getDecoder().decode(trimmed.substring(separator + 1));
+                parsed.put(keyId, new SigningKey(keyId, secret));
+            }
+        }
+        if (parsed.isEmpty()) {
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            parsed.put("local", new SigningKey("local", secret));
+            log.warn("quiz.token.keys 가 설정되지 않아 임의 키를 사용합니다. 여러 인스턴스에서는 토큰을 검증할 수 없습니다.");
+        }
+        return parsed;
+    }
+
+    /**
+     * @return 토큰 모드를 사용하면 {@code true}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 퀴즈 정답 토큰을 발급합니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @param answer 퀴즈 정답
+     * @return 서명된 토큰 문자열
+     */
+    public String issue(int quizId, boolean answer) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH).putInt(quizId).putLong(expiresAt).array();
+        return activeKey.id() + "." + ENCODER.encodeToString(payload) + "."
+                + ENCODER.encodeToString(activeKey.sign(payload, answer));
+    }
+
+    /**
+     * 토큰을 검증하고 제출한 답을 채점합니다.
+     *
+     * @param token    {@link #issue(int, boolean)} 로 발급한 토큰
+     * @param myAnswer 사용자가 제출한 답변
+     * @return 채점 결과. 서명이 맞지 않으면 {@link Verdict#INVALID}, 기간이 지났으면 {@link Verdict#EXPIRED}
+     */
+    public TokenCheckResult verify(String token, boolean myAnswer) {
+        if (token == null) {
+            return TokenCheckResult.invalid();
+        }
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first <= 0 || second < 0) {
+            return TokenCheckResult.invalid();
+        }
+        SigningKey key = keys.get(token.substring(0, first));
+        if (key == null) {
+            return TokenCheckResult.invalid();
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(token.substring(first + 1, second));
+            signature = DECODER.decode(token.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            return TokenCheckResult.invalid();
+        }
+        if (payload.length != PAYLOAD_LENGTH || signature.length != SIGNATURE_LENGTH) {
+            return TokenCheckResult.invalid();
+        }
+
+        Verdict verdict;
+        if (MessageDigest.isEqual(signature, key.sign(payload, myAnswer))) {
+            verdict = Verdict.CORRECT;
+        } else if (MessageDigest.isEqual(signature, key.sign(payload, !myAnswer))) {
+            verdict = Verdict.INCORRECT;
+        } else {
+            return TokenCheckResult.invalid();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int quizId = buffer.getInt();
+        long expiresAt = buffer.getLong();
+        if (clock.instant().getEpochSecond() > expiresAt) {
+            return new TokenCheckResult(Verdict.EXPIRED, quizId);
+        }
+        return new TokenCheckResult(verdict, quizId);
+    }
+
+    /**
+     * 키 ID 와 HMAC 키 쌍
+     * <p>
+     * {@link Mac} 은 스레드 안전하지 않으므로 초기화된 인스턴스를 풀에서 빌려 쓰고 돌려놓습니다.
+     * 요청마다 새 스레드가 생기는 가상 스레드 환경에서는 {@link ThreadLocal} 이 매번 새 {@link Mac} 을 만들게 되므로
+     * 스레드와 무관한 락 없는 풀을 사용합니다.
+     * </p>
+     */
+    private static final class SigningKey {
+
+        private final String id;
+        private final SecretKeySpec keySpec;
+        private final Queue<Mac> pool = new ConcurrentLinkedQueue<>();
+
+        SigningKey(String id, byte[] secret) {
+            this.id = id;
+            this.keySpec = new SecretKeySpec(secret, ALGORITHM);
+            // 잘못된 키를 기동 시점에 발견하기 위해 한 번 초기화
+            pool.offer(newMac());
+        }
+
+        String id() {
+            return id;
+        }
+
+        byte[] sign(byte[] payload, boolean answer) {
+            Mac instance = pool.poll();
+            if (instance == null) {
+                instance = newMac();
+            }
+            try {
+                instance.update(id.getBytes(StandardCharsets.US_ASCII));
+                instance.update(payload);
+                instance.update(answer ? (byte) 1 : (byte) 0);
+                byte[] full = instance.doFinal();
+                byte[] truncated = new byte[SIGNATURE_LENGTH];
+                System.arraycopy(full, 0, truncated, 0, SIGNATURE_LENGTH);
+                return truncated;
+            } finally {
+                // doFinal 이 상태를 초기화하므로 그대로 재사용 가능
+                pool.offer(instance);
+            }
+        }
+
+        private Mac newMac() {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 초기화 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.adam9e96.QuizStudy.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채점 이력 기록기
+ *
+ * <p>
+ * {@code /quiz/check} 의 채점 결과를 {@code quiz_attempt} 테이블에 남깁니다.
+ * 채점 요청은 락 없는 큐({@link ConcurrentLinkedQueue})에 넣기만 하고 바로 반환하며,
+ * 저장은 다음 두 경우에 별도 스레드가 JDBC 배치 INSERT 로 수행합니다.
+ * <ul>
+ *     <li>쌓인 건수가 {@code quiz.attempt.batch-size} 에 도달한 경우</li>
+ *     <li>{@code quiz.attempt.flush-interval} 주기</li>
+ * </ul>
+ * 저장과 동시에 {@link AttemptStats} 의 실시간 정답률도 갱신합니다.
+ * </p>
+ *
+ * <p>
+ * 데이터베이스가 느려져도 메모리가 무한히 늘지 않도록 {@code quiz.attempt.max-buffered} 건을 넘으면 새 이력은 버리고 개수만 셉니다.
+ * 저장에 실패한 배치도 재시도하지 않고 버립니다. (이력은 통계 용도이므로 채점 응답을 지연시키지 않는 것을 우선합니다.)
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class AttemptRecorder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO quiz_attempt (quiz_id, answer, correct, attempted_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AttemptStats attemptStats;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxBuffered;
+
+    private final ConcurrentLinkedQueue<Attempt> buffer = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 큐에 쌓인 건수 ({@link ConcurrentLinkedQueue#size()} 는 O(n) 이므로 따로 셈)
+     */
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    /**
+     * 저장 작업이 실행 중이거나 예약되어 있는지 여부
+     */
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 채점 이력 한 건
+     */
+    private record Attempt(int quizId, boolean answer, boolean correct, long attemptedAt) {
+    }
+
+    public AttemptRecorder(JdbcTemplate jdbcTemplate,
+                           AttemptStats attemptStats,
+                           @Qualifier("applicationTaskExecutor") Executor executor,
+                           @Value("${quiz.attempt.batch-size:500}") int batchSize,
+                           @Value("${quiz.attempt.max-buffered:100000}") int maxBuffered) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.attemptStats = attemptStats;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * 채점 결과 한 건을 기록합니다. 저장을 기다리지 않습니다.
+     *
+     * @param quizId  퀴즈 ID
+     * @param answer  제출한 답
+     * @param correct 정답 여부
+     */
+    public void record(int quizId, boolean answer, boolean correct) {
+        attemptStats.add(quizId, correct);
+        if (buffered.incrementAndGet() > maxBuffered) {
+            buffered.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        buffer.offer(new Attempt(quizId, answer, correct, System.currentTimeMillis()));
+        if (buffered.get() >= batchSize && flushing.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 쌓인 이력을 주기적으로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.attempt.flush-interval:PT1S}")
+    public void flush() {
+        if (flushing.compareAndSet(false, true)) {
+            drain();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 큐가 빌 때까지 배치 단위로 저장합니다. {@link #flushing} 을 획득한 스레드만 호출합니다.
+     */
+    private void drain() {
+        try {
+            List<Attempt> batch = new ArrayList<>(batchSize);
+            Attempt attempt;
+            while ((attempt = buffer.poll()) != null) {
+                buffered.decrementAndGet();
+                batch.add(attempt);
+                if (batch.size() >= batchSize) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+            write(batch);
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                log.warn("채점 이력 버퍼가 가득 차 {}건을 버렸습니다.", lost);
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private void write(List<Attempt> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, attempt) -> {
+                ps.setInt(1, attempt.quizId());
+                ps.setBoolean(2, attempt.answer());
+                ps.setBoolean(3, attempt.correct());
+                ps.setTimestamp(4, new Timestamp(attempt.attemptedAt()));
+            });
+        } catch (DataAccessException e) {
+            log.error("채점 이력 {}건 저장 실패: {}", batch.size(), e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.QuizAccuracy;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 퀴즈별 실시간 정답률 집계
+ *
+ * <p>
+ * 퀴즈 ID 별로 채점 횟수와 정답 횟수를 {@link LongAdder} 로 보관합니다.
+ * {@link LongAdder} 는 경합이 생기면 셀을 나누어 더하므로 같은 퀴즈에 동시에 답이 몰려도 CAS 재시도가 누적되지 않습니다.
+ * 기동 시 {@code quiz_attempt} 테이블의 누적값을 한 번 읽어 오고, 이후에는 메모리에서만 갱신합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class AttemptStats {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Integer, Counts> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 채점 횟수. 집계가 바뀌었는지 값싸게 확인하는 용도입니다.
+     */
+    private final LongAdder totalAttempts = new LongAdder();
+
+    /**
+     * 퀴즈 하나의 채점/정답 횟수
+     */
+    private static final class Counts {
+        final LongAdder attempts = new LongAdder();
+        final LongAdder correct = new LongAdder();
+    }
+
+    /**
+     * 기록된 채점 이력으로 누적값을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("""
+                SELECT quiz_id, COUNT(*), SUM(CASE WHEN correct THEN 1 ELSE 0 END)
+                FROM quiz_attempt GROUP BY quiz_id""", rs -> {
+            Counts quizCounts = counts.computeIfAbsent(rs.getInt(1), id -> new Counts());
+            quizCounts.attempts.add(rs.getLong(2));
+            quizCounts.correct.add(rs.getLong(3));
+            totalAttempts.add(rs.getLong(2));
+        });
+        log.info("정답률 집계 로드 완료: {}건", counts.size());
+    }
+
+    /**
+     * 삭제된 퀴즈의 집계를 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        if (event.type() == QuizChangedEvent.Type.DELETED) {
+            counts.remove(event.id());
+        }
+    }
+
+    /**
+     * 채점 결과 한 건을 반영합니다.
+     *
+     * @param quizId  퀴즈 ID
+     * @param correct 정답 여부
+     */
+    public void add(int quizId, boolean correct) {
+        Counts quizCounts = counts.get(quizId);
+        if (quizCounts == null) {
+            quizCounts = counts.computeIfAbsent(quizId, id -> new Counts());
+        }
+        quizCounts.attempts.increment();
+        if (correct) {
+            quizCounts.correct.increment();
+        }
+        totalAttempts.increment();
+    }
+
+    /**
+     * @return 기동 이후 로드/반영된 전체 채점 횟수
+     */
+    public long totalAttempts() {
+        return totalAttempts.sum();
+    }
+
+    /**
+     * 퀴즈 한 건의 누적 정답률을 조회합니다.
+     *
+     * @param quizId 퀴즈 ID
+     * @return 누적 정답률. 기록이 없으면 채점 횟수 0
+     */
+    public QuizAccuracy get(int quizId) {
+        Counts quizCounts = counts.get(quizId);
+        if (quizCounts == null) {
+            return new QuizAccuracy(quizId, null, 0, 0);
+        }
+        return new QuizAccuracy(quizId, null, quizCounts.attempts.sum(), quizCounts.correct.sum());
+    }
+
+    /**
+     * 정답률이 가장 낮은 퀴즈를 조회합니다.
+     * <p>
+     * 크기 {@code limit} 의 힙 하나로 고르므로 전체를 정렬하지 않습니다.
+     * </p>
+     *
+     * @param limit       최대 개수
+     * @param minAttempts 이 횟수 미만으로 채점된 퀴즈는 제외
+     * @return 정답률 오름차순 목록 (퀴즈 내용은 비어 있음)
+     */
+    public List<QuizAccuracy> hardest(int limit, long minAttempts) {
+        Comparator<QuizAccuracy> easierFirst = Comparator.comparingDouble(QuizAccuracy::accuracy).reversed()
+                .thenComparing(QuizAccuracy::attempts);
+        PriorityQueue<QuizAccuracy> heap = new PriorityQueue<>(limit + 1, easierFirst);
+        counts.forEach((quizId, quizCounts) -> {
+            long attempts = quizCounts.attempts.sum();
+            if (attempts < minAttempts) {
+                return;
+            }
+            heap.add(new QuizAccuracy(quizId, null, attempts, quizCounts.correct.sum()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<QuizAccuracy> result = new ArrayList<>(heap);
+        result.sort(easierFirst.reversed());
+        return result;
+    }
+}
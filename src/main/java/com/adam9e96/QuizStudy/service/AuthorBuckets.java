@@ -0,0 +1,132 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * 작성자별 퀴즈 ID 묶음입니다.
+ * </p>
+ *
+ * <p>
+ * 작성자마다 ID 를 빈틈없는 {@code int[]} 에 모아 두어 무작위 선택과 개수 조회가 O(1) 이고,
+ * ID 를 인덱스로 하는 전역 배열 두 개({@code authorOf}, {@code slotOf})에 각 ID 의 작성자와 위치를 기록하여
+ * 추가/삭제/작성자 변경도 O(1) 로 처리합니다. 퀴즈 하나는 작성자 하나에만 속하므로
+ * 작성자 수와 관계없이 전역 배열은 하나씩만 필요합니다. ({@link IntIdSet} 과 같이 촘촘한 ID 를 전제로 합니다.)
+ * </p>
+ *
+ * <p>
+ * 동기화는 하지 않으므로 호출하는 쪽에서 락으로 보호해야 합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class AuthorBuckets {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * 작성자 한 명의 ID 목록. 앞에서부터 {@code size} 개만 유효합니다.
+     */
+    private static final class Bucket {
+        int[] ids = new int[4];
+        int size;
+    }
+
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    /**
+     * ID 를 인덱스로 하는 작성자. 없으면 {@code null}
+     */
+    private String[] authorOf = new String[INITIAL_CAPACITY];
+
+    /**
+     * ID 를 인덱스로 하는 작성자 목록 내 위치
+     */
+    private int[] slotOf = new int[INITIAL_CAPACITY];
+
+    /**
+     * 퀴즈를 작성자 목록에 넣습니다. 이미 다른 작성자 목록에 있으면 옮깁니다.
+     *
+     * @param id     퀴즈 ID (0 이상)
+     * @param author 작성자
+     */
+    void put(int id, String author) {
+        if (id < 0) {
+            throw new IllegalArgumentException("음수 ID 는 저장할 수 없습니다: " + id);
+        }
+        if (id >= authorOf.length) {
+            int capacity = Math.max(id + 1, authorOf.length * 2);
+            authorOf = Arrays.copyOf(authorOf, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+        }
+        String previous = authorOf[id];
+        if (author.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            remove(id);
+        }
+        Bucket bucket = buckets.computeIfAbsent(author, key -> new Bucket());
+        if (bucket.size == bucket.ids.length) {
+            bucket.ids = Arrays.copyOf(bucket.ids, bucket.size * 2);
+        }
+        bucket.ids[bucket.size] = id;
+        slotOf[id] = bucket.size++;
+        authorOf[id] = author;
+    }
+
+    /**
+     * 퀴즈를 작성자 목록에서 뺍니다.
+     *
+     * @param id 퀴즈 ID
+     */
+    void remove(int id) {
+        if (id < 0 || id >= authorOf.length || authorOf[id] == null) {
+            return;
+        }
+        Bucket bucket = buckets.get(authorOf[id]);
+        int index = slotOf[id];
+        int last = bucket.ids[--bucket.size];
+        bucket.ids[index] = last;
+        slotOf[last] = index;
+        if (bucket.size == 0) {
+            buckets.remove(authorOf[id]);
+        }
+        authorOf[id] = null;
+    }
+
+    /**
+     * @param author 작성자
+     * @return 해당 작성자의 퀴즈 수
+     */
+    int count(String author) {
+        Bucket bucket = buckets.get(author);
+        return bucket == null ? 0 : bucket.size;
+    }
+
+    /**
+     * @param author 작성자
+     * @param index  0 이상 {@link #count(String)} 미만의 위치
+     * @return 해당 위치의 퀴즈 ID
+     */
+    int get(String author, int index) {
+        return buckets.get(author).ids[index];
+    }
+
+    /**
+     * @return 작성자별 퀴즈 수 (순서 없음)
+     */
+    List<AuthorCount> counts() {
+        List<AuthorCount> counts = new ArrayList<>(buckets.size());
+        buckets.forEach((author, bucket) -> counts.add(new AuthorCount(author, bucket.size)));
+        return counts;
+    }
+}
@@ -0,0 +1,176 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자별 퀴즈 색인
+ *
+ * <p>
+ * 작성자별 퀴즈 ID 를 {@link AuthorBuckets} 에 보관하여 작성자 한정 무작위 선택과
+ * 작성자별 퀴즈 수를 데이터베이스 없이 제공합니다. 퀴즈 수는 등록/수정/삭제 이벤트마다 증감되므로
+ * 요약 화면이 전체 테이블에 {@code GROUP BY} 를 실행하지 않습니다.
+ * 수정으로 작성자가 바뀌면 이전 작성자는 색인이 기억하는 값으로 찾습니다.
+ * </p>
+ *
+ * <p>
+ * 재구축 / 이벤트 반영 방식은 {@link RandomQuizSelector} 와 같습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class AuthorIndex implements RebuildableIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 작성자별 퀴즈 ID. {@link #lock} 으로 보호됩니다.
+     */
+    private AuthorBuckets buckets = new AuthorBuckets();
+
+    /**
+     * 진행 중인 재구축이 소유한 변경 기록. 재구축 중이 아니면 {@code null} 입니다. {@link #lock} 으로 보호됩니다.
+     */
+    private List<QuizChangedEvent> pendingChanges;
+
+    /**
+     * 최초 재구축이 끝났는지 여부
+     */
+    private volatile boolean loaded;
+
+    /**
+     * 작성자 색인 재구축을 시작합니다.
+     */
+    @Override
+    public Rebuild beginRebuild() {
+        List<QuizChangedEvent> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        AuthorBuckets fresh = new AuthorBuckets();
+        return new Rebuild() {
+            @Override
+            public void add(Quiz quiz) {
+                fresh.put(quiz.getId(), quiz.getAuthor());
+            }
+
+            @Override
+            public void commit() {
+                lock.writeLock().lock();
+                try {
+                    for (QuizChangedEvent change : journal) {
+                        apply(fresh, change);
+                    }
+                    pendingChanges = null;
+                    buckets = fresh;
+                    loaded = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("작성자 색인 재구축 완료: 작성자 {}명", fresh.counts().size());
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * 커밋된 퀴즈 변경을 색인에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(buckets, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(AuthorBuckets target, QuizChangedEvent event) {
+        switch (event.type()) {
+            case INSERTED, UPDATED -> target.put(event.id(), event.quiz().getAuthor());
+            case DELETED -> target.remove(event.id());
+        }
+    }
+
+    /**
+     * 해당 작성자의 퀴즈 ID 하나를 무작위로 선택합니다.
+     *
+     * @param author 작성자
+     * @return 선택된 퀴즈 ID. 해당 작성자의 퀴즈가 없으면 빈 {@link OptionalInt}
+     */
+    public OptionalInt pick(String author) {
+        lock.readLock().lock();
+        try {
+            int count = buckets.count(author);
+            if (count == 0) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(buckets.get(author, ThreadLocalRandom.current().nextInt(count)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 데이터베이스에 더 이상 존재하지 않는 ID 를 색인에서 제거합니다.
+     *
+     * @param id 제거할 퀴즈 ID
+     */
+    public void evict(int id) {
+        onQuizChanged(QuizChangedEvent.deleted(id));
+    }
+
+    /**
+     * @return 작성자별 퀴즈 수 (많은 순, 같으면 작성자 이름 순)
+     */
+    public List<AuthorCount> counts() {
+        List<AuthorCount> counts;
+        lock.readLock().lock();
+        try {
+            counts = buckets.counts();
+        } finally {
+            lock.readLock().unlock();
+        }
+        counts.sort(Comparator.comparingInt(AuthorCount::count).reversed().thenComparing(AuthorCount::author));
+        return counts;
+    }
+
+    /**
+     * @return 최초 재구축이 끝나 결과를 신뢰할 수 있으면 {@code true}
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
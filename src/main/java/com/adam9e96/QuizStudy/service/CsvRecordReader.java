@@ -0,0 +1,131 @@
+package com.adam9e96.QuizStudy.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * RFC 4180 형식의 CSV 를 한 레코드씩 읽는 스트리밍 파서입니다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표({@code ""})를 지원합니다.
+ * </p>
+ *
+ * <p>
+ * 입력 전체를 메모리에 올리지 않고 현재 레코드만 보관하므로 파일 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 호출하는 쪽에서 {@link java.io.BufferedReader} 등 버퍼가 있는 {@link Reader} 를 넘겨야 합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class CsvRecordReader {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+
+    /**
+     * 다음에 읽을 문자의 줄 번호 (1부터)
+     */
+    private long line = 1;
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호
+     */
+    private long recordLine;
+
+    private int pushedBack = -2;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드를 읽습니다.
+     *
+     * @return 필드 목록. 입력이 끝났으면 {@code null}
+     * @throws IOException 입력을 읽을 수 없거나 따옴표가 닫히지 않은 경우
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        // 빈 줄은 건너뜀
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>(4);
+        field.setLength(0);
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException(recordLine + "번째 줄: 닫히지 않은 큰따옴표");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    /**
+     * @return 마지막으로 읽은 레코드가 시작된 줄 번호
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushedBack != -2) {
+            c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,104 @@
+package com.adam9e96.QuizStudy.service;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * 퀴즈 ID 를 원시 {@code int[]} 로 보관하는 집합입니다.
+ * </p>
+ *
+ * <p>
+ * 값은 {@code ids} 배열 앞쪽에 빈틈없이 모여 있으므로 {@code get(random.nextInt(size()))} 한 번으로 무작위 선택이 가능하고,
+ * {@code slots[id]} 에 각 ID 의 위치(+1)를 기록해 두어 추가와 삭제(마지막 원소와 교환) 모두 O(1) 로 처리합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>주의:</strong> {@code slots} 배열은 최대 ID 크기만큼 커지므로 {@code serial} 처럼 촘촘한 ID 를 전제로 합니다.
+ * 동기화는 하지 않으므로 호출하는 쪽에서 락으로 보호해야 합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class IntIdSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * 보관 중인 ID. 앞에서부터 {@code size} 개만 유효합니다.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    /**
+     * ID 를 인덱스로 하여 {@code ids} 내 위치 + 1 을 저장합니다. 0 은 없음을 뜻합니다.
+     */
+    private int[] slots = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * ID 를 추가합니다.
+     *
+     * @param id 추가할 퀴즈 ID (0 이상)
+     * @return 새로 추가되었으면 {@code true}, 이미 있었다면 {@code false}
+     */
+    boolean add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("음수 ID 는 저장할 수 없습니다: " + id);
+        }
+        if (id >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(id + 1, slots.length * 2));
+        }
+        if (slots[id] != 0) {
+            return false;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        slots[id] = ++size;
+        return true;
+    }
+
+    /**
+     * ID 를 제거합니다. 마지막 원소를 빈자리로 옮기므로 순서는 유지되지 않습니다.
+     *
+     * @param id 제거할 퀴즈 ID
+     * @return 제거되었으면 {@code true}, 없던 ID 라면 {@code false}
+     */
+    boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+        int index = slots[id] - 1;
+        int last = ids[--size];
+        ids[index] = last;
+        slots[last] = index + 1;
+        slots[id] = 0;
+        return true;
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && id < slots.length && slots[id] != 0;
+    }
+
+    /**
+     * @param index 0 이상 {@link #size()} 미만의 위치
+     * @return 해당 위치의 ID
+     */
+    int get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @return 보관 중인 ID 의 복사본 (순서 보장 없음)
+     */
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    int size() {
+        return size;
+    }
+}
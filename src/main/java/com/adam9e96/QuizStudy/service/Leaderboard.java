@@ -0,0 +1,298 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.LeaderboardEntry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플레이어 점수 순위표
+ *
+ * <p>
+ * 플레이어별 점수(누적 정답 수)와 연속 정답 수를 메모리에서 집계합니다.
+ * <ul>
+ *     <li>채점 반영: 플레이어 한 명의 상태만 잠그므로 서로 다른 플레이어의 갱신은 경합하지 않습니다.</li>
+ *     <li>순위 조회: {@code quiz.leaderboard.refresh-interval} 마다 크기 {@code quiz.leaderboard.top-size} 의
+ *     힙으로 상위 K 명을 골라 불변 목록으로 교체해 두므로, 상위 N 명 조회는 데이터베이스 없이 O(N) 입니다.</li>
+ *     <li>저장: {@code quiz.leaderboard.checkpoint-interval} 마다 변경된 플레이어만 {@code player_score} 에
+ *     UPDATE 후 없으면 INSERT 하는 방식으로 한 트랜잭션에 배치 저장합니다.
+ *     점수와 시도 수는 마지막 저장 이후의 증가분만 더하므로({@code score = score + ?})
+ *     여러 인스턴스가 같은 플레이어를 저장해도 서로의 점수를 덮어쓰지 않습니다.</li>
+ * </ul>
+ * 기동 시 {@code player_score} 를 읽어 이전 점수를 복원합니다.
+ * 메모리의 점수는 기동 시점의 값에 이 인스턴스에서 반영한 채점만 더한 것이므로, 다른 인스턴스의 채점은 재기동 전까지 보이지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>주의:</strong> 플레이어 이름은 인증 없이 세션에 저장되는 표시용 이름이므로 다른 사람이 같은 이름을 쓸 수 있습니다.
+ * 순위표 점수는 같은 제출을 반복해 올릴 수 없는 경로(서명 토큰 채점, 시험 모드)에서만 반영하도록 호출하는 쪽에서 제한합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class Leaderboard {
+
+    private static final String UPDATE_SQL = "UPDATE player_score SET score = score + ?, attempts = attempts + ?, "
+            + "streak = ?, best_streak = GREATEST(best_streak, ?), updated_at = ? WHERE player = ?";
+    private static final String INSERT_SQL = "INSERT INTO player_score "
+            + "(score, attempts, streak, best_streak, updated_at, player) VALUES (?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 순위 정렬 기준: 점수, 최고 연속 정답, 이름 순
+     */
+    private static final Comparator<LeaderboardEntry> RANKING =
+            Comparator.comparingLong(LeaderboardEntry::score).reversed()
+                    .thenComparing(Comparator.comparingInt(LeaderboardEntry::bestStreak).reversed())
+                    .thenComparing(LeaderboardEntry::player);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int topSize;
+
+    private final ConcurrentHashMap<String, PlayerScore> players = new ConcurrentHashMap<>();
+
+    /**
+     * 마지막으로 계산한 상위 K 명 (불변)
+     */
+    private volatile List<LeaderboardEntry> top = List.of();
+
+    public Leaderboard(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${quiz.leaderboard.top-size:100}") int topSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topSize = topSize;
+    }
+
+    /**
+     * 플레이어 한 명의 점수 상태. 필드는 인스턴스 자신으로 동기화합니다.
+     */
+    private static final class PlayerScore {
+        private final String player;
+        private long score;
+        private long attempts;
+        private int streak;
+        private int bestStreak;
+        private boolean dirty;
+        /**
+         * 데이터베이스에 이미 반영된 점수와 시도 수 (증가분 계산 기준)
+         */
+        private long savedScore;
+        private long savedAttempts;
+
+        PlayerScore(String player) {
+            this.player = player;
+        }
+
+        synchronized void record(boolean correct) {
+            attempts++;
+            if (correct) {
+                score++;
+                streak++;
+                bestStreak = Math.max(bestStreak, streak);
+            } else {
+                streak = 0;
+            }
+            dirty = true;
+        }
+
+        synchronized LeaderboardEntry snapshot() {
+            return new LeaderboardEntry(0, player, score, attempts, streak, bestStreak);
+        }
+
+        /**
+         * 변경된 경우에만 마지막 저장 이후의 증가분을 반환하고 변경 표시를 지웁니다.
+         * ({@code score}, {@code attempts} 는 증가분, {@code streak}, {@code bestStreak} 는 현재 값)
+         */
+        synchronized LeaderboardEntry takeDirty() {
+            if (!dirty) {
+                return null;
+            }
+            dirty = false;
+            return new LeaderboardEntry(0, player, score - savedScore, attempts - savedAttempts, streak, bestStreak);
+        }
+
+        /**
+         * 저장에 성공한 증가분을 기준에 더합니다.
+         */
+        synchronized void saved(LeaderboardEntry delta) {
+            savedScore += delta.score();
+            savedAttempts += delta.attempts();
+        }
+
+        /**
+         * 저장에 실패하면 다음 주기에 기준과의 차이 전체를 다시 저장합니다.
+         */
+        synchronized void markDirty() {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 저장된 점수를 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("SELECT player, score, attempts, streak, best_streak FROM player_score", rs -> {
+            PlayerScore playerScore = new PlayerScore(rs.getString(1));
+            playerScore.score = rs.getLong(2);
+            playerScore.attempts = rs.getLong(3);
+            playerScore.streak = rs.getInt(4);
+            playerScore.bestStreak = rs.getInt(5);
+            playerScore.savedScore = playerScore.score;
+            playerScore.savedAttempts = playerScore.attempts;
+            players.putIfAbsent(playerScore.player, playerScore);
+        });
+        refresh();
+        log.info("순위표 복원 완료: {}명", players.size());
+    }
+
+    /**
+     * 채점 결과를 플레이어 점수에 반영합니다.
+     *
+     * @param player  플레이어 이름
+     * @param correct 정답 여부
+     */
+    public void record(String player, boolean correct) {
+        PlayerScore playerScore = players.get(player);
+        if (playerScore == null) {
+            playerScore = players.computeIfAbsent(player, PlayerScore::new);
+        }
+        playerScore.record(correct);
+    }
+
+    /**
+     * 플레이어 한 명의 현재 점수를 조회합니다. (순위는 0)
+     *
+     * @param player 플레이어 이름
+     * @return 현재 점수. 기록이 없으면 모두 0
+     */
+    public LeaderboardEntry get(String player) {
+        PlayerScore playerScore = players.get(player);
+        return playerScore == null ? new LeaderboardEntry(0, player, 0, 0, 0, 0) : playerScore.snapshot();
+    }
+
+    /**
+     * 상위 N 명을 조회합니다. 최대 {@code refresh-interval} 만큼 늦은 값일 수 있습니다.
+     *
+     * @param limit 조회할 인원 ({@code quiz.leaderboard.top-size} 이하)
+     * @return 순위순 목록
+     */
+    public List<LeaderboardEntry> top(int limit) {
+        List<LeaderboardEntry> current = top;
+        return current.subList(0, Math.clamp(limit, 0, current.size()));
+    }
+
+    /**
+     * 상위 K 명을 다시 계산합니다. O(P log K)
+     */
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.refresh-interval:PT1S}")
+    public void refresh() {
+        PriorityQueue<LeaderboardEntry> heap = new PriorityQueue<>(topSize + 1, RANKING.reversed());
+        for (PlayerScore playerScore : players.values()) {
+            heap.add(playerScore.snapshot());
+            if (heap.size() > topSize) {
+                heap.poll();
+            }
+        }
+        List<LeaderboardEntry> sorted = new ArrayList<>(heap);
+        sorted.sort(RANKING);
+        List<LeaderboardEntry> ranked = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            LeaderboardEntry entry = sorted.get(i);
+            ranked.add(new LeaderboardEntry(i + 1, entry.player(), entry.score(), entry.attempts(),
+                    entry.streak(), entry.bestStreak()));
+        }
+        top = List.copyOf(ranked);
+    }
+
+    /**
+     * 변경된 플레이어 점수를 데이터베이스에 저장합니다.
+     * <p>
+     * 일부만 저장된 뒤 실패하면 다음 주기에 같은 증가분을 다시 더하게 되므로, UPDATE 와 INSERT 를 한 트랜잭션으로 묶습니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.checkpoint-interval:PT30S}")
+    public void checkpoint() {
+        List<LeaderboardEntry> changed = new ArrayList<>();
+        for (PlayerScore playerScore : players.values()) {
+            LeaderboardEntry entry = playerScore.takeDirty();
+            if (entry != null) {
+                changed.add(entry);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try {
+            int inserted = transactionTemplate.execute(status -> {
+                int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, changed, changed.size(),
+                        (ps, entry) -> bind(ps, entry, now));
+                List<LeaderboardEntry> missing = new ArrayList<>();
+                for (int i = 0; i < changed.size(); i++) {
+                    if (updated[0][i] == 0) {
+                        missing.add(changed.get(i));
+                    }
+                }
+                if (!missing.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, entry) -> bind(ps, entry, now));
+                }
+                return missing.size();
+            });
+            for (LeaderboardEntry delta : changed) {
+                PlayerScore playerScore = players.get(delta.player());
+                if (playerScore != null) {
+                    playerScore.saved(delta);
+                }
+            }
+            log.debug("순위표 저장: {}명 (신규 {}명)", changed.size(), inserted);
+        } catch (DataAccessException | TransactionException e) {
+            // 다음 주기에 다시 저장
+            for (LeaderboardEntry entry : changed) {
+                PlayerScore playerScore = players.get(entry.player());
+                if (playerScore != null) {
+                    playerScore.markDirty();
+                }
+            }
+            log.error("순위표 저장 실패: {}", NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private static void bind(PreparedStatement ps, LeaderboardEntry entry, Timestamp now) throws SQLException {
+        ps.setLong(1, entry.score());
+        ps.setLong(2, entry.attempts());
+        ps.setInt(3, entry.streak());
+        ps.setInt(4, entry.bestStreak());
+        ps.setTimestamp(5, now);
+        ps.setString(6, entry.player());
+    }
+}
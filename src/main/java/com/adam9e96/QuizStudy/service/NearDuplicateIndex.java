@@ -0,0 +1,320 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.DuplicateMatch;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유사 문제(거의 같은 문제) 색인
+ *
+ * <p>
+ * 문제 본문을 소문자화하고 문자/숫자만 남긴 뒤 글자 {@value #SHINGLE_LENGTH}-gram 집합으로 보고,
+ * {@value #HASHES} 개의 MinHash 서명을 만들어 보관합니다. 두 서명에서 값이 같은 자리의 비율은 두 본문의
+ * 자카드 유사도 추정치입니다.
+ * 정규화한 본문이 {@value #SHINGLE_LENGTH} 글자보다 짧으면(기호뿐인 문제 등) 비교할 n-gram 이 없으므로
+ * 색인하지 않고 유사 문제도 찾지 않습니다. 그렇지 않으면 그런 문제끼리 모두 같은 서명이 되어 서로 100% 중복으로 보고됩니다.
+ * </p>
+ *
+ * <p>
+ * <strong>LSH:</strong> 서명을 {@value #ROWS} 개씩 {@value #BANDS} 개의 밴드로 나누어 밴드별 해시 버킷에 넣고,
+ * 검사할 때는 같은 버킷에 들어 있는 퀴즈만 후보로 삼아 서명을 비교합니다.
+ * 유사도 0.8 인 쌍이 후보가 될 확률은 99.9% 이상, 0.3 인 쌍은 약 12% 이므로
+ * 전체 문제와 비교하지 않고도 버킷 크기에만 비례하는 비용으로 유사 문제를 찾습니다.
+ * </p>
+ *
+ * <p>
+ * {@code quiz.duplicate.mode} 로 동작을 정합니다. ({@code OFF}, {@code WARN}, {@code REJECT})
+ * 재구축 / 이벤트 반영 방식은 {@link AnswerIndex} 와 같습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class NearDuplicateIndex implements RebuildableIndex {
+
+    static final int SHINGLE_LENGTH = 3;
+    static final int BANDS = 16;
+    static final int ROWS = 4;
+    static final int HASHES = BANDS * ROWS;
+
+    /**
+     * 해시 함수별 시드 (인스턴스 간 서명이 같도록 고정)
+     */
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(HASHES).toArray();
+
+    /**
+     * 유사 문제 처리 방식
+     */
+    public enum Mode {
+        /** 검사하지 않음 */
+        OFF,
+        /** 등록하되 경고 */
+        WARN,
+        /** 등록 거부 */
+        REJECT
+    }
+
+    private final Mode mode;
+    private final double threshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 퀴즈 ID 별 MinHash 서명. {@link #lock} 으로 보호됩니다.
+     */
+    private Map<Integer, int[]> signatures = new HashMap<>();
+
+    /**
+     * 밴드 해시별 퀴즈 ID 목록. {@link #lock} 으로 보호됩니다.
+     */
+    private Map<Long, int[]> buckets = new HashMap<>();
+
+    /**
+     * 진행 중인 재구축이 소유한 변경 기록. 재구축 중이 아니면 {@code null} 입니다. {@link #lock} 으로 보호됩니다.
+     */
+    private List<QuizChangedEvent> pendingChanges;
+
+    public NearDuplicateIndex(@Value("${quiz.duplicate.mode:WARN}") Mode mode,
+                              @Value("${quiz.duplicate.threshold:0.8}") double threshold) {
+        this.mode = mode;
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return 유사 문제 처리 방식
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * 유사 문제 색인 재구축을 시작합니다. {@code OFF} 모드이면 재구축하지 않습니다.
+     */
+    @Override
+    public Rebuild beginRebuild() {
+        if (mode == Mode.OFF) {
+            return null;
+        }
+        List<QuizChangedEvent> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Integer, int[]> freshSignatures = new HashMap<>();
+        Map<Long, int[]> freshBuckets = new HashMap<>();
+        return new Rebuild() {
+            @Override
+            public void add(Quiz quiz) {
+                NearDuplicateIndex.add(freshSignatures, freshBuckets, quiz.getId(), signature(quiz.getQuestion()));
+            }
+
+            @Override
+            public void commit() {
+                lock.writeLock().lock();
+                try {
+                    for (QuizChangedEvent change : journal) {
+                        apply(freshSignatures, freshBuckets, change);
+                    }
+                    pendingChanges = null;
+                    signatures = freshSignatures;
+                    buckets = freshBuckets;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("유사 문제 색인 재구축 완료: {}건, 버킷 {}개", freshSignatures.size(), freshBuckets.size());
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * 커밋된 퀴즈 변경을 색인에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(signatures, buckets, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(Map<Integer, int[]> signatures, Map<Long, int[]> buckets, QuizChangedEvent event) {
+        remove(signatures, buckets, event.id());
+        if (event.type() != QuizChangedEvent.Type.DELETED) {
+            add(signatures, buckets, event.id(), signature(event.quiz().getQuestion()));
+        }
+    }
+
+    private static void add(Map<Integer, int[]> signatures, Map<Long, int[]> buckets, int id, int[] signature) {
+        if (signature == null) {
+            return;
+        }
+        signatures.put(id, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.merge(bandKey(signature, band), new int[]{id}, (ids, single) -> {
+                int[] grown = Arrays.copyOf(ids, ids.length + 1);
+                grown[ids.length] = single[0];
+                return grown;
+            });
+        }
+    }
+
+    private static void remove(Map<Integer, int[]> signatures, Map<Long, int[]> buckets, int id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfPresent(bandKey(signature, band), (key, ids) -> {
+                int[] kept = Arrays.stream(ids).filter(existing -> existing != id).toArray();
+                return kept.length == 0 ? null : kept;
+            });
+        }
+    }
+
+    /**
+     * 가장 비슷한 기존 문제를 찾습니다.
+     *
+     * @param question  검사할 문제 본문
+     * @param excludeId 비교에서 제외할 퀴즈 ID (수정 시 자기 자신). 없으면 {@code null}
+     * @return 유사도가 {@code quiz.duplicate.threshold} 이상인 가장 비슷한 문제. {@code OFF} 모드이면 항상 빈 값
+     */
+    public Optional<DuplicateMatch> findSimilar(String question, Integer excludeId) {
+        if (mode == Mode.OFF || question == null) {
+            return Optional.empty();
+        }
+        int[] signature = signature(question);
+        if (signature == null) {
+            return Optional.empty();
+        }
+        int bestId = -1;
+        int bestMatches = -1;
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < BANDS; band++) {
+                int[] candidates = buckets.get(bandKey(signature, band));
+                if (candidates == null) {
+                    continue;
+                }
+                for (int candidate : candidates) {
+                    if (excludeId != null && candidate == excludeId) {
+                        continue;
+                    }
+                    int matches = matches(signature, signatures.get(candidate));
+                    if (matches > bestMatches) {
+                        bestMatches = matches;
+                        bestId = candidate;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        double similarity = bestMatches / (double) HASHES;
+        if (bestId < 0 || similarity < threshold) {
+            return Optional.empty();
+        }
+        return Optional.of(new DuplicateMatch(bestId, similarity));
+    }
+
+    private static int matches(int[] left, int[] right) {
+        int matches = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (left[i] == right[i]) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 본문의 MinHash 서명을 계산합니다.
+     *
+     * @param question 문제 본문
+     * @return 길이 {@value #HASHES} 의 서명. 정규화한 본문이 {@value #SHINGLE_LENGTH} 글자보다 짧으면 {@code null}
+     */
+    static int[] signature(String question) {
+        String normalized = normalize(question);
+        if (normalized.length() < SHINGLE_LENGTH) {
+            return null;
+        }
+        int[] signature = new int[HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = normalized.length() - SHINGLE_LENGTH + 1;
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int i = start; i < start + SHINGLE_LENGTH; i++) {
+                shingle = shingle * 65_599 + normalized.charAt(i);
+            }
+            for (int h = 0; h < HASHES; h++) {
+                int value = (int) (mix(shingle ^ SEEDS[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static String normalize(String question) {
+        StringBuilder normalized = new StringBuilder(question.length());
+        question.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return mix(key);
+    }
+
+    /**
+     * SplitMix64 마무리 함수
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
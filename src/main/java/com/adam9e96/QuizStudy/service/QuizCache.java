@@ -0,0 +1,158 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import com.adam9e96.QuizStudy.repository.QuizRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+/**
+ * 퀴즈 조회 캐시
+ *
+ * <p>
+ * {@link QuizRepository#findById(Object)} 앞에 두는 읽기 관통(read-through) 캐시입니다.
+ * Caffeine 의 W-TinyLFU 정책으로 {@code quiz.cache.maximum-size} 건까지 보관하고,
+ * 기록 후 {@code quiz.cache.ttl} 이 지나면 만료합니다. 존재하지 않는 ID 는 캐시하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>동시성:</strong> 퀴즈가 변경되면 커밋 이후에 {@link QuizChangedEvent} 를 받아 해당 키를 무효화합니다.
+ * 값 대신 {@link CompletableFuture} 를 보관하는 {@link AsyncCache} 를 사용하므로, 적재(load) 중에 무효화되면
+ * 그 future 가 캐시에서 먼저 제거되어 커밋 전에 시작된 조회가 옛 값을 캐시에 남기지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 데이터베이스 조회는 Caffeine 내부의 {@code ConcurrentHashMap.compute} 밖에서 호출 스레드가 직접 수행합니다.
+ * compute 안에서 JDBC I/O 를 하면 {@code synchronized} 블록에 가상 스레드가 고정(pinning)되기 때문입니다.
+ * 같은 키를 동시에 조회하는 스레드는 먼저 등록된 future 를 기다리므로 조회는 한 번만 일어납니다.
+ * </p>
+ *
+ * <p>
+ * 캐시 미스 조회는 호출자의 읽기 전용 트랜잭션을 잠시 멈추고 새 읽기/쓰기 트랜잭션에서 실행하여 주 데이터베이스에서 읽습니다.
+ * 무효화 직후의 조회가 복제 지연으로 옛 행을 읽으면 그 값이 {@code quiz.cache.ttl} 동안 캐시에 남기 때문입니다.
+ * </p>
+ *
+ * <p>
+ * 적중/실패/제거 통계는 {@code cache.gets}, {@code cache.evictions} 등의 이름({@code cache=quiz} 태그)으로
+ * actuator {@code /actuator/metrics} 에 노출됩니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+public class QuizCache {
+
+    private final QuizRepository quizRepository;
+
+    /**
+     * 캐시 미스 조회를 주 데이터베이스에서 실행하기 위한 읽기/쓰기 트랜잭션 (호출자의 트랜잭션과 분리)
+     */
+    private final TransactionTemplate primaryTransaction;
+
+    private final AsyncCache<Integer, Quiz> cache;
+
+    public QuizCache(QuizRepository quizRepository,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     @Value("${quiz.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${quiz.cache.ttl:PT10M}") Duration ttl) {
+        this.quizRepository = quizRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), "quiz");
+    }
+
+    /**
+     * 캐시에서 퀴즈를 조회하고, 없으면 데이터베이스에서 읽어 캐시에 보관합니다.
+     *
+     * @param id 퀴즈 ID
+     * @return 조회된 퀴즈. 존재하지 않으면 빈 {@link Optional}
+     */
+    public Optional<Quiz> findById(int id) {
+        // getIfPresent 로 적중/실패 통계를 기록
+        CompletableFuture<Quiz> cached = cache.getIfPresent(id);
+        if (cached == null) {
+            CompletableFuture<Quiz> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(id, loading);
+            if (cached == null) {
+                return Optional.ofNullable(load(id, loading));
+            }
+        }
+        return Optional.ofNullable(cached.join());
+    }
+
+    /**
+     * 캐시에서 퀴즈를 조회하고, 없으면 {@code loader} 의 비동기 조회 결과를 캐시에 보관합니다.
+     * <p>
+     * {@link #findById(int)} 와 같은 캐시를 공유하며, 호출 스레드를 막지 않으므로 R2DBC 경로에서 사용합니다.
+     * </p>
+     *
+     * @param id     퀴즈 ID
+     * @param loader 블로킹하지 않는 조회 함수. 존재하지 않으면 {@code null} 로 완료
+     * @return 조회 결과 future. 존재하지 않으면 {@code null} 로 완료
+     */
+    public CompletableFuture<Quiz> findByIdAsync(int id, IntFunction<CompletableFuture<Quiz>> loader) {
+        CompletableFuture<Quiz> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Quiz> loading = new CompletableFuture<>();
+        cached = cache.asMap().putIfAbsent(id, loading);
+        if (cached != null) {
+            return cached;
+        }
+        loader.apply(id).whenComplete((quiz, error) -> {
+            if (error != null) {
+                cache.asMap().remove(id, loading);
+                loading.completeExceptionally(error);
+            } else {
+                loading.complete(quiz);
+            }
+        });
+        return loading;
+    }
+
+    /**
+     * 호출 스레드에서 주 데이터베이스를 조회하여 등록해 둔 future 를 완료합니다.
+     * 존재하지 않는 퀴즈(null)로 완료된 future 는 Caffeine 이 자동으로 제거합니다.
+     */
+    private Quiz load(int id, CompletableFuture<Quiz> loading) {
+        try {
+            Quiz quiz = primaryTransaction.execute(status -> quizRepository.findById(id).orElse(null));
+            loading.complete(quiz);
+            return quiz;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(id, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋된 퀴즈 변경에 맞춰 해당 항목을 무효화합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        cache.synchronous().invalidate(event.id());
+    }
+}
@@ -0,0 +1,228 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 퀴즈 내보내기 서비스
+ *
+ * <p>
+ * 전체 퀴즈를 읽기 전용 트랜잭션 안에서 서버 측 커서(fetch size {@code quiz.export.fetch-size})로 조회하며,
+ * 한 행씩 바로 출력 스트림에 씁니다. {@code selectAll()} 처럼 결과 전체를 메모리에 만들지 않으므로
+ * 테이블 크기와 관계없이 메모리 사용량이 일정합니다.
+ * (PostgreSQL 드라이버는 자동 커밋이 꺼진 상태에서만 커서를 사용하므로 트랜잭션이 필요합니다.)
+ * </p>
+ *
+ * <p>
+ * 내보내기 한 건은 끝날 때까지 커넥션 하나를 점유하므로, 동시에 실행할 수 있는 수를
+ * {@code quiz.export.max-concurrent} 로 제한해 다른 요청이 사용할 커넥션을 남겨 둡니다.
+ * </p>
+ *
+ * <p>
+ * CSV 열 순서는 {@code question,answer,author,id} 로, {@code /quiz/import} 로 그대로 다시 등록할 수 있습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Service
+@Log4j2
+public class QuizExportService {
+
+    private static final String SELECT_SQL = "SELECT id, question, answer, author FROM quiz ORDER BY id";
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public QuizExportService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${quiz.export.fetch-size:1000}") int fetchSize,
+                             @Value("${quiz.export.max-concurrent:2}") int maxConcurrent) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 실행 권한을 얻습니다. 얻은 권한은 호출한 쪽이 내보내기가 끝나면 {@link Permit#close()} 로,
+     * 시작되지 못했으면 {@link Permit#abandon()} 으로 반납해야 합니다.
+     *
+     * @return 동시 실행 한도 안이면 실행 권한, 아니면 빈 {@link Optional}
+     */
+    public Optional<Permit> tryAcquire() {
+        return permits.tryAcquire() ? Optional.of(new Permit()) : Optional.empty();
+    }
+
+    /**
+     * 내보내기 실행 권한 한 건
+     *
+     * <p>
+     * 내보내기를 시작한 쪽({@link #start()})만 끝난 뒤에 닫으며, 시작되지 못한 권한은 {@link #abandon()} 으로 반납합니다.
+     * 비동기 요청은 시간 초과나 연결 끊김으로 본문이 아직 스트리밍 중일 때도 완료될 수 있으므로,
+     * 완료 콜백이 실행 중인 내보내기의 권한을 먼저 반납하지 않도록 둘 중 먼저 차지한 쪽만 권한을 가집니다.
+     * 여러 번 닫아도 한 번만 반납됩니다.
+     * </p>
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * 내보내기를 시작합니다.
+         *
+         * @return 시작했으면 {@code true}. 이미 {@link #abandon()} 으로 반납되었으면 {@code false}
+         */
+        public boolean start() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * 내보내기가 시작되지 않았으면 권한을 반납합니다. 이미 시작했으면 시작한 쪽이 닫으므로 아무것도 하지 않습니다.
+         */
+        public void abandon() {
+            if (claimed.compareAndSet(false, true)) {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * 전체 퀴즈를 출력 스트림에 씁니다. {@link #tryAcquire()} 로 얻은 권한은 반납하지 않습니다.
+     *
+     * @param out    출력 스트림 (닫지 않음)
+     * @param format 출력 형식
+     * @return 내보낸 행 수
+     * @throws IOException 출력 중 오류가 발생한 경우 (클라이언트 연결 끊김 등)
+     */
+    public long export(OutputStream out, Format format) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            long rows = switch (format) {
+                case CSV -> exportCsv(writer);
+                case NDJSON -> exportNdjson(writer);
+            };
+            writer.flush();
+            log.info("퀴즈 내보내기 완료 ({}): {}건, {}ms", format, rows, (System.nanoTime() - startedAt) / 1_000_000);
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long exportCsv(Writer writer) throws IOException {
+        writer.write("question,answer,author,id\n");
+        long[] rows = {0};
+        readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(SELECT_SQL, rs -> {
+            try {
+                writeCsvField(writer, rs.getString(2));
+                writer.write(',');
+                writer.write(rs.getBoolean(3) ? "true" : "false");
+                writer.write(',');
+                writeCsvField(writer, rs.getString(4));
+                writer.write(',');
+                writer.write(Integer.toString(rs.getInt(1)));
+                writer.write('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        return rows[0];
+    }
+
+    private long exportNdjson(Writer writer) throws IOException {
+        long[] rows = {0};
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(SELECT_SQL, rs -> {
+            try {
+                generator.writeStartObject();
+                generator.writeNumberField("id", rs.getInt(1));
+                generator.writeStringField("question", rs.getString(2));
+                generator.writeBooleanField("answer", rs.getBoolean(3));
+                generator.writeStringField("author", rs.getString(4));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        generator.flush();
+        return rows[0];
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write('"');
+        int start = 0;
+        int quote;
+        while ((quote = value.indexOf('"', start)) >= 0) {
+            writer.write(value, start, quote - start + 1);
+            writer.write('"');
+            start = quote + 1;
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+}
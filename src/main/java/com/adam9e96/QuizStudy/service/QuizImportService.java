@@ -0,0 +1,338 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.DuplicateMatch;
+import com.adam9e96.QuizStudy.dto.ImportReport;
+import com.adam9e96.QuizStudy.dto.ImportReport.RowError;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import com.adam9e96.QuizStudy.form.QuizForm;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 퀴즈 대량 등록 서비스
+ *
+ * <p>
+ * CSV({@code question,answer,author[,id]}) 또는 NDJSON(한 줄에 {@link QuizForm} JSON 하나) 입력을 한 행씩 읽어
+ * {@link QuizForm} 과 같은 제약 조건으로 검증한 뒤, {@code quiz.import.batch-size} 건씩 모아 저장합니다.
+ * 입력 전체를 메모리에 올리지 않으므로 파일 크기와 관계없이 메모리 사용량은 배치 하나 분량입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>저장 방식:</strong>
+ * <ul>
+ *     <li>PostgreSQL: 배치마다 {@code COPY quiz FROM STDIN (FORMAT csv)}</li>
+ *     <li>그 외(H2 등): JDBC 배치 INSERT</li>
+ * </ul>
+ * 배치는 각각 별도의 트랜잭션으로 커밋되며, 배치 저장이 실패하면 해당 배치를 한 행씩 다시 저장하여 실패한 행만 보고합니다.
+ * 등록이 끝나면 {@link QuizBulkImportedEvent} 를 발행하며, 메모리 인덱스는 응답과 별도로 비동기 재구축됩니다.
+ * </p>
+ *
+ * <p>
+ * 각 행은 {@link NearDuplicateIndex} 로 기존 퀴즈와 비교하여 {@code quiz.duplicate.mode} 에 따라
+ * 경고({@code warnings})로 보고하거나 거부합니다. 같은 파일 안의 행끼리는 비교하지 않습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class QuizImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO quiz (question, answer, author) VALUES (?, ?, ?)";
+    private static final String COPY_SQL = "COPY quiz (question, answer, author) FROM STDIN WITH (FORMAT csv)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NearDuplicateIndex nearDuplicateIndex;
+
+    /**
+     * 한 번에 저장할 행 수
+     */
+    @Value("${quiz.import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 보고서에 담을 최대 오류 수
+     */
+    @Value("${quiz.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    /**
+     * PostgreSQL 여부 (처음 저장할 때 판별)
+     */
+    private volatile Boolean postgres;
+
+    /**
+     * CSV 입력을 등록합니다. 첫 행이 {@code question} 으로 시작하면 헤더로 보고 건너뜁니다.
+     *
+     * @param in UTF-8 CSV 입력 스트림
+     * @return 등록 결과 보고서
+     * @throws IOException 입력을 읽는 중 오류가 발생한 경우
+     */
+    public ImportReport importCsv(InputStream in) throws IOException {
+        ImportSession session = new ImportSession("csv");
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        boolean first = true;
+        try {
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                long line = reader.recordLine();
+                if (first && !fields.isEmpty() && "question".equalsIgnoreCase(fields.get(0).strip())) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                // 4번째 열(id)은 /quiz/export 결과를 다시 등록할 때를 위해 허용하되 사용하지 않음
+                if (fields.size() != 3 && fields.size() != 4) {
+                    session.reject(line, "열은 question,answer,author(,id) 여야 합니다. (현재 " + fields.size() + "개)");
+                    continue;
+                }
+                Boolean answer = parseAnswer(fields.get(1));
+                if (answer == null) {
+                    session.reject(line, "정답은 true/false 또는 O/X 로 입력해야 합니다.");
+                    continue;
+                }
+                QuizForm form = new QuizForm();
+                form.setQuestion(fields.get(0));
+                form.setAnswer(answer);
+                form.setAuthor(fields.get(2));
+                session.accept(line, form);
+            }
+        } catch (IOException e) {
+            // 닫히지 않은 따옴표 등 형식 오류는 그 지점까지 등록하고 보고
+            session.reject(reader.recordLine(), e.getMessage());
+        }
+        return session.finish();
+    }
+
+    /**
+     * NDJSON 입력을 등록합니다. 빈 줄은 건너뛰고, JSON 객체가 아닌 줄({@code null}, 배열, 문자열 등)은 거부합니다.
+     *
+     * @param in UTF-8 NDJSON 입력 스트림
+     * @return 등록 결과 보고서
+     * @throws IOException 입력을 읽는 중 오류가 발생한 경우
+     */
+    public ImportReport importNdjson(InputStream in) throws IOException {
+        ImportSession session = new ImportSession("ndjson");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String text;
+        long line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (node == null || !node.isObject()) {
+                    session.reject(line, "한 줄에 퀴즈 JSON 객체 하나를 입력해야 합니다.");
+                    continue;
+                }
+                session.accept(line, objectMapper.treeToValue(node, QuizForm.class));
+            } catch (JsonProcessingException e) {
+                session.reject(line, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return session.finish();
+    }
+
+    private static Boolean parseAnswer(String value) {
+        return switch (value.strip().toLowerCase(Locale.ROOT)) {
+            case "true", "o", "1" -> Boolean.TRUE;
+            case "false", "x", "0" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    /**
+     * 검증을 통과한 한 행
+     */
+    private record Row(long line, String question, boolean answer, String author) {
+    }
+
+    /**
+     * 한 번의 등록 요청 동안의 배치 버퍼와 집계
+     */
+    private final class ImportSession {
+
+        private final String format;
+        private final long startedAt = System.nanoTime();
+        private final List<Row> batch = new ArrayList<>(batchSize);
+        private final List<RowError> errors = new ArrayList<>();
+        private final List<RowError> warnings = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long rejected;
+
+        ImportSession(String format) {
+            this.format = format;
+        }
+
+        void accept(long line, QuizForm form) {
+            Set<ConstraintViolation<QuizForm>> violations = validator.validate(form);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(" ")));
+                return;
+            }
+            Optional<DuplicateMatch> duplicate = nearDuplicateIndex.findSimilar(form.getQuestion(), null);
+            if (duplicate.isPresent()) {
+                String message = String.format("유사한 퀴즈(#%d, 유사도 %.0f%%)가 이미 있습니다.",
+                        duplicate.get().quizId(), duplicate.get().similarity() * 100);
+                if (nearDuplicateIndex.mode() == NearDuplicateIndex.Mode.REJECT) {
+                    reject(line, message);
+                    return;
+                }
+                if (warnings.size() < maxReportedErrors) {
+                    warnings.add(new RowError(line, message));
+                }
+            }
+            totalRows++;
+            batch.add(new Row(line, form.getQuestion(), form.getAnswer(), form.getAuthor()));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            totalRows++;
+            recordError(line, message);
+        }
+
+        private void recordError(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(batch));
+                imported += batch.size();
+            } catch (DataAccessException e) {
+                log.warn("배치 저장 실패, 한 행씩 다시 저장합니다: {}", e.getMostSpecificCause().getMessage());
+                for (Row row : batch) {
+                    try {
+                        jdbcTemplate.update(INSERT_SQL, row.question(), row.answer(), row.author());
+                        imported++;
+                    } catch (DataAccessException rowError) {
+                        recordError(row.line(), "저장 실패: " + rowError.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+            batch.clear();
+        }
+
+        ImportReport finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long elapsedMillis = elapsedNanos / 1_000_000;
+            double rowsPerSecond = elapsedNanos == 0 ? 0 : imported * 1_000_000_000d / elapsedNanos;
+            log.info("퀴즈 대량 등록 완료 ({}): 등록 {}건, 거부 {}건, {}ms, {} rows/s",
+                    format, imported, rejected, elapsedMillis, Math.round(rowsPerSecond));
+            if (imported > 0) {
+                eventPublisher.publishEvent(new QuizBulkImportedEvent(imported));
+            }
+            return new ImportReport(format, totalRows, imported, rejected, List.copyOf(errors),
+                    rejected > errors.size(), List.copyOf(warnings), elapsedMillis, rowsPerSecond);
+        }
+    }
+
+    private void write(List<Row> rows) {
+        if (isPostgres()) {
+            copy(rows);
+        } else {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.question());
+                ps.setBoolean(2, row.answer());
+                ps.setString(3, row.author());
+            });
+        }
+    }
+
+    /**
+     * PostgreSQL {@code COPY} 로 한 배치를 저장합니다. 현재 트랜잭션의 커넥션을 사용합니다.
+     */
+    private void copy(List<Row> rows) {
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (Row row : rows) {
+            appendCsv(csv, row.question()).append(',').append(row.answer()).append(',');
+            appendCsv(csv, row.author()).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try {
+                return con.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("COPY 입력 전송 실패", e);
+            }
+        });
+    }
+
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+                try {
+                    return con.isWrapperFor(PGConnection.class);
+                } catch (SQLException e) {
+                    return false;
+                }
+            });
+            postgres = result;
+        }
+        return result;
+    }
+}
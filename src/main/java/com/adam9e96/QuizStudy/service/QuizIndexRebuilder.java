@@ -0,0 +1,136 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 색인 재구축 조정자
+ *
+ * <p>
+ * {@link RandomQuizSelector}, {@link AnswerIndex}, {@link AuthorIndex}, {@link QuizSearchIndex},
+ * {@link NearDuplicateIndex} 를 퀴즈 테이블 한 번의 조회로 함께 재구축합니다.
+ * 색인마다 테이블 전체를 따로 읽지 않으므로 기동과 일괄 등록 직후의 전체 조회가 한 번으로 줄어듭니다.
+ * </p>
+ *
+ * <p>
+ * <strong>실행 시점:</strong> 애플리케이션 기동 완료, {@link QuizBulkImportedEvent} 수신,
+ * 다른 인스턴스의 변경을 따라잡기 위한 {@code quiz.index.resync-interval} 주기입니다.
+ * 일괄 등록 후의 재구축은 {@code applicationTaskExecutor} 에서 실행하므로 등록 요청은 재구축을 기다리지 않고 응답합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>조회:</strong> 테이블 전체를 한 번에 받지 않도록 트랜잭션 안에서 {@code quiz.index.fetch-size} 행씩 커서로 읽습니다.
+ * (PostgreSQL 드라이버는 자동 커밋이 꺼져 있어야 fetch size 를 지킵니다.) 방금 일괄 등록한 행을 복제 지연으로 놓치지 않도록
+ * 읽기 전용이 아닌 트랜잭션으로 주 데이터베이스에서 읽습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>직렬화:</strong> 재구축은 한 번에 하나만 실행됩니다. 실행 중에 다시 요청되면 요청은 기록만 하고 바로 반환하며,
+ * 실행 중인 스레드가 현재 재구축을 마친 뒤 한 번 더 재구축합니다. 여러 요청이 겹쳐도 추가 재구축은 한 번이고,
+ * 실행 중이던 조회가 놓쳤을 수 있는 일괄 등록 결과도 반드시 반영됩니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class QuizIndexRebuilder {
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate primaryTransaction;
+    private final List<RebuildableIndex> indexes;
+    private final Executor executor;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 아직 처리되지 않은 재구축 요청이 있는지 여부
+     */
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    public QuizIndexRebuilder(DataSource dataSource,
+                              PlatformTransactionManager transactionManager,
+                              List<RebuildableIndex> indexes,
+                              @Qualifier("applicationTaskExecutor") Executor executor,
+                              @Value("${quiz.index.fetch-size:1000}") int fetchSize) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.indexes = indexes;
+        this.executor = executor;
+    }
+
+    /**
+     * 일괄 등록이 끝나면 재구축을 비동기로 요청합니다.
+     */
+    @EventListener
+    public void onBulkImported(QuizBulkImportedEvent event) {
+        executor.execute(this::rebuild);
+    }
+
+    /**
+     * 모든 색인의 재구축을 요청합니다. 다른 스레드가 재구축 중이면 그 스레드가 이어서 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${quiz.index.resync-interval:PT10M}",
+            fixedDelayString = "${quiz.index.resync-interval:PT10M}")
+    public void rebuild() {
+        requested.set(true);
+        // 잠금을 푼 직후 들어온 요청을 놓치지 않도록 요청이 남아 있으면 다시 잠금을 시도합니다.
+        while (requested.get() && rebuildLock.tryLock()) {
+            try {
+                while (requested.getAndSet(false)) {
+                    rebuildAll();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+
+    private void rebuildAll() {
+        List<RebuildableIndex.Rebuild> rebuilds = new ArrayList<>(indexes.size());
+        try {
+            for (RebuildableIndex index : indexes) {
+                RebuildableIndex.Rebuild rebuild = index.beginRebuild();
+                if (rebuild != null) {
+                    rebuilds.add(rebuild);
+                }
+            }
+            if (rebuilds.isEmpty()) {
+                return;
+            }
+            primaryTransaction.executeWithoutResult(status ->
+                    cursorTemplate.query("SELECT id, question, answer, author FROM quiz", rs -> {
+                        Quiz quiz = new Quiz(rs.getInt(1), rs.getString(2), rs.getBoolean(3), rs.getString(4));
+                        for (RebuildableIndex.Rebuild rebuild : rebuilds) {
+                            rebuild.add(quiz);
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            rebuilds.forEach(RebuildableIndex.Rebuild::abort);
+            throw e;
+        }
+        rebuilds.forEach(RebuildableIndex.Rebuild::commit);
+        log.info("메모리 색인 재구축 완료: 색인 {}개", rebuilds.size());
+    }
+}
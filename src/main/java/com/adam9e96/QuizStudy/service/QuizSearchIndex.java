@@ -0,0 +1,301 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 퀴즈 본문 역색인 (PostgreSQL 전문 검색을 쓸 수 없을 때의 대체 경로)
+ *
+ * <p>
+ * 본문을 소문자화한 뒤 문자/숫자가 아닌 곳에서 나눈 단어를 색인어로 사용하며,
+ * 색인어마다 해당 단어를 포함한 퀴즈 ID 를 {@link BitSet} 으로 보관합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>PostgreSQL 경로와의 차이:</strong> 일반적인 단어는 {@code to_tsvector('simple', ...)} 와 같이 나뉘지만,
+ * 두 경로의 검색 결과가 항상 같지는 않습니다.
+ * <ul>
+ *     <li>PostgreSQL 파서는 하이픈 단어({@code e-mail} → {@code e-mail}, {@code e}, {@code mail}), 소수({@code 3.14}),
+ *     URL, 이메일 주소를 하나의 토큰으로도 색인하지만, 이 색인은 기호에서 모두 나눕니다.</li>
+ *     <li>{@code websearch_to_tsquery} 의 {@code or}, {@code -} (제외), 따옴표(구문 검색)를 지원하지 않으며,
+ *     이 색인에서는 모두 기호를 뺀 일반 검색어로 보아 AND 로 묶습니다.</li>
+ *     <li>관련도 점수는 {@code ts_rank} 와 계산식이 달라 순서가 다를 수 있습니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * <strong>검색:</strong> 모든 검색어를 포함한 퀴즈만 고르며(AND), 가장 작은 게시 목록부터 교집합을 구하므로
+ * 비용은 전체 퀴즈 수가 아니라 검색어가 포함된 퀴즈 수에 비례합니다.
+ * 관련도는 {@code Σ idf(단어) × tf(단어) / √(본문 단어 수)} 이며 상위 결과는 크기가 제한된 힙으로 고릅니다.
+ * </p>
+ *
+ * <p>
+ * {@code quiz.question_tsv} 컬럼({@code search-postgresql.sql})이 있으면 색인을 만들지 않고
+ * {@link #isActive()} 가 {@code false} 를 반환합니다. 재구축 / 이벤트 반영 방식은 {@link AnswerIndex} 와 같습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class QuizSearchIndex implements RebuildableIndex {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 데이터베이스 전문 검색 사용 여부. 최초 재구축 시 판별합니다.
+     */
+    private volatile Boolean databaseSearch;
+
+    /**
+     * 색인어별 퀴즈 ID 집합. {@link #lock} 으로 보호됩니다.
+     */
+    private Map<String, BitSet> postings = new HashMap<>();
+
+    /**
+     * 퀴즈 ID 별 색인어 목록 (삭제/수정 및 점수 계산용). {@link #lock} 으로 보호됩니다.
+     */
+    private Map<Integer, String[]> documents = new HashMap<>();
+
+    /**
+     * 진행 중인 재구축이 소유한 변경 기록. 재구축 중이 아니면 {@code null} 입니다. {@link #lock} 으로 보호됩니다.
+     */
+    private List<QuizChangedEvent> pendingChanges;
+
+    /**
+     * 본문을 색인어로 나눕니다.
+     *
+     * @param text 본문 또는 검색어
+     * @return 소문자화한 색인어 목록 (본문에 나온 순서, 중복 포함)
+     */
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * @return 메모리 색인으로 검색해야 하면 {@code true}. 데이터베이스 전문 검색을 쓸 수 있다고 확인되면 {@code false}
+     */
+    public boolean isActive() {
+        return !Boolean.TRUE.equals(databaseSearch);
+    }
+
+    /**
+     * 검색 색인 재구축을 시작합니다. 데이터베이스 전문 검색을 쓸 수 있으면 재구축하지 않습니다.
+     */
+    @Override
+    public Rebuild beginRebuild() {
+        if (databaseSearch == null) {
+            databaseSearch = detectDatabaseSearch();
+            log.info("퀴즈 검색 방식: {}", databaseSearch ? "PostgreSQL tsvector" : "메모리 역색인");
+        }
+        if (databaseSearch) {
+            return null;
+        }
+
+        List<QuizChangedEvent> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, BitSet> freshPostings = new HashMap<>();
+        Map<Integer, String[]> freshDocuments = new HashMap<>();
+        return new Rebuild() {
+            @Override
+            public void add(Quiz quiz) {
+                QuizSearchIndex.add(freshPostings, freshDocuments, quiz.getId(), quiz.getQuestion());
+            }
+
+            @Override
+            public void commit() {
+                lock.writeLock().lock();
+                try {
+                    for (QuizChangedEvent change : journal) {
+                        apply(freshPostings, freshDocuments, change);
+                    }
+                    pendingChanges = null;
+                    postings = freshPostings;
+                    documents = freshDocuments;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("검색 색인 재구축 완료: {}건, 색인어 {}개", freshDocuments.size(), freshPostings.size());
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    private boolean detectDatabaseSearch() {
+        Integer columns = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE LOWER(table_name) = 'quiz' AND LOWER(column_name) = 'question_tsv'""", Integer.class);
+        return columns != null && columns > 0;
+    }
+
+    /**
+     * 커밋된 퀴즈 변경을 색인에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        if (!isActive()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(postings, documents, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(Map<String, BitSet> postings, Map<Integer, String[]> documents,
+                              QuizChangedEvent event) {
+        remove(postings, documents, event.id());
+        if (event.type() != QuizChangedEvent.Type.DELETED) {
+            add(postings, documents, event.id(), event.quiz().getQuestion());
+        }
+    }
+
+    private static void add(Map<String, BitSet> postings, Map<Integer, String[]> documents,
+                            int id, String question) {
+        String[] tokens = tokenize(question);
+        documents.put(id, tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new BitSet()).set(id);
+        }
+    }
+
+    private static void remove(Map<String, BitSet> postings, Map<Integer, String[]> documents, int id) {
+        String[] tokens = documents.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            BitSet ids = postings.get(token);
+            if (ids != null) {
+                ids.clear(id);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어를 모두 포함한 퀴즈 ID 를 관련도 순으로 조회합니다.
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 최대 결과 수
+     * @return 관련도 내림차순 퀴즈 ID 배열
+     */
+    public int[] search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Arrays.asList(tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+        lock.readLock().lock();
+        try {
+            List<BitSet> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                BitSet ids = postings.get(term);
+                if (ids == null) {
+                    return new int[0];
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(BitSet::cardinality));
+            BitSet matches = (BitSet) lists.get(0).clone();
+            for (int i = 1; i < lists.size() && !matches.isEmpty(); i++) {
+                matches.and(lists.get(i));
+            }
+
+            double totalDocuments = documents.size();
+            Map<String, Double> idf = new HashMap<>();
+            for (String term : terms) {
+                idf.put(term, Math.log(1 + totalDocuments / postings.get(term).cardinality()));
+            }
+
+            int wanted = offset + limit;
+            PriorityQueue<ScoredId> heap = new PriorityQueue<>(wanted + 1, ScoredId.ORDER.reversed());
+            for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                heap.add(new ScoredId(id, score(documents.get(id), idf)));
+                if (heap.size() > wanted) {
+                    heap.poll();
+                }
+            }
+            List<ScoredId> ranked = new ArrayList<>(heap);
+            ranked.sort(ScoredId.ORDER);
+            return ranked.stream().skip(offset).mapToInt(ScoredId::id).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double score(String[] tokens, Map<String, Double> idf) {
+        double score = 0;
+        for (String token : tokens) {
+            Double weight = idf.get(token);
+            if (weight != null) {
+                score += weight;
+            }
+        }
+        return score / Math.sqrt(tokens.length);
+    }
+
+    /**
+     * 관련도 점수가 붙은 퀴즈 ID
+     */
+    private record ScoredId(int id, double score) {
+        /**
+         * 점수 내림차순, 같으면 ID 오름차순
+         */
+        static final Comparator<ScoredId> ORDER = Comparator.comparingDouble(ScoredId::score).reversed()
+                .thenComparingInt(ScoredId::id);
+    }
+}
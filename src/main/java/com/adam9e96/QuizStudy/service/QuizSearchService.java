@@ -0,0 +1,112 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.QuizSearchPage;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.repository.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 본문 검색 서비스
+ *
+ * <p>
+ * PostgreSQL 에 {@code question_tsv} 컬럼과 GIN 인덱스({@code search-postgresql.sql})가 있으면
+ * {@code websearch_to_tsquery} 와 {@code ts_rank} 로 검색하고,
+ * 그렇지 않으면(H2, 마이그레이션 전) {@link QuizSearchIndex} 의 메모리 역색인으로 검색합니다.
+ * 어느 경로든 전체 행을 훑지 않으므로 퀴즈 수가 늘어도 검색 비용은 검색어가 포함된 퀴즈 수에 비례합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class QuizSearchService {
+
+    private static final String SEARCH_SQL = """
+            SELECT q.id, q.question, q.answer, q.author
+            FROM quiz q, websearch_to_tsquery('simple', ?) query
+            WHERE q.question_tsv @@ query
+            ORDER BY ts_rank(q.question_tsv, query) DESC, q.id
+            LIMIT ? OFFSET ?""";
+
+    private static final RowMapper<Quiz> QUIZ_ROW_MAPPER = (rs, rowNum) -> new Quiz(
+            rs.getInt("id"), rs.getString("question"), rs.getBoolean("answer"), rs.getString("author"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuizRepository quizRepository;
+    private final QuizSearchIndex quizSearchIndex;
+
+    /**
+     * 검색 결과 한 페이지에 표시할 수 있는 최대 퀴즈 수
+     */
+    @Value("${quiz.page.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 조회할 수 있는 가장 깊은 페이지 (관련도 정렬은 OFFSET 을 쓰므로 깊이를 제한)
+     */
+    @Value("${quiz.search.max-page:50}")
+    private int maxPage;
+
+    /**
+     * 퀴즈 본문을 검색합니다.
+     *
+     * @param query 검색어. 공백으로 구분한 단어를 모두 포함한 퀴즈를 찾습니다.
+     * @param page  페이지 번호 (0부터, {@code quiz.search.max-page} 이하로 보정)
+     * @param size  페이지 크기 (1 이상 {@code quiz.page.max-size} 이하로 보정)
+     * @return 관련도 순 {@link QuizSearchPage}
+     */
+    public QuizSearchPage search(String query, int page, int size) {
+        int limit = Math.clamp(size, 1, maxPageSize);
+        if (query == null || query.isBlank()) {
+            return QuizSearchPage.empty(query, limit);
+        }
+        String trimmed = query.strip();
+        int pageNumber = Math.clamp(page, 0, maxPage);
+        int offset = pageNumber * limit;
+
+        List<Quiz> rows = quizSearchIndex.isActive()
+                ? searchIndex(trimmed, offset, limit + 1)
+                : jdbcTemplate.query(SEARCH_SQL, QUIZ_ROW_MAPPER, trimmed, limit + 1, offset);
+        boolean hasNext = rows.size() > limit && pageNumber < maxPage;
+        return new QuizSearchPage(trimmed, rows.subList(0, Math.min(limit, rows.size())), pageNumber, limit, hasNext);
+    }
+
+    /**
+     * 메모리 역색인에서 ID 를 고른 뒤 해당 퀴즈만 조회하여 관련도 순서대로 반환합니다.
+     */
+    private List<Quiz> searchIndex(String query, int offset, int limit) {
+        int[] ids = quizSearchIndex.search(query, offset, limit);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        List<Integer> wanted = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            wanted.add(id);
+        }
+        Map<Integer, Quiz> found = new HashMap<>();
+        for (Quiz quiz : quizRepository.findAllById(wanted)) {
+            found.put(quiz.getId(), quiz);
+        }
+        List<Quiz> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Quiz quiz = found.get(id);
+            if (quiz != null) {
+                result.add(quiz);
+            }
+        }
+        return result;
+    }
+}
@@ -1,9 +1,18 @@
 package com.adam9e96.QuizStudy.service;
 
 
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+import com.adam9e96.QuizStudy.dto.ExamResult;
+import com.adam9e96.QuizStudy.dto.QuizAccuracy;
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
 import com.adam9e96.QuizStudy.entity.Quiz;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -32,6 +41,17 @@ public interface QuizService {
      */
     Iterable<Quiz> selectAll();
 
+    /**
+     * 키셋 페이징으로 퀴즈 목록의 한 페이지를 조회합니다.
+     *
+     * @param after  이 ID 다음부터 조회. {@code before} 와 함께 주어지지 않으면 첫 페이지
+     * @param before 이 ID 이전까지 조회. 주어지면 {@code after} 보다 우선
+     * @param size   페이지 크기
+     * @param author 작성자 필터. {@code null} 또는 공백이면 전체
+     * @return 조회된 {@link QuizPage}
+     */
+    QuizPage selectPage(Integer after, Integer before, int size, String author);
+
     /**
      * 주어진 ID를 사용하여 특정 퀴즈 정보를 조회합니다.
      *
@@ -47,6 +67,36 @@ public interface QuizService {
      */
     Optional<Quiz> selectOneRandomQuiz();
 
+    /**
+     * 특정 작성자의 퀴즈 중 무작위로 하나를 조회합니다.
+     *
+     * @param author 작성자
+     * @return 무작위로 선택된 퀴즈. 해당 작성자의 퀴즈가 없으면 빈 {@link Optional}
+     */
+    Optional<Quiz> selectOneRandomQuizByAuthor(String author);
+
+    /**
+     * 오답률이 높은 퀴즈일수록 자주 나오도록 가중치를 두어 무작위로 하나를 조회합니다.
+     *
+     * @return 선택된 퀴즈. 퀴즈가 존재하지 않으면 빈 {@link Optional}
+     */
+    Optional<Quiz> selectOneAdaptiveQuiz();
+
+    /**
+     * 플레이어가 복습할 차례인 퀴즈를 조회합니다. (간격 반복)
+     *
+     * @param player 플레이어 이름
+     * @return 다음 복습 퀴즈. 등록된 퀴즈가 없으면 빈 {@link Optional}
+     */
+    Optional<Quiz> selectNextReviewQuiz(String player);
+
+    /**
+     * 작성자별 퀴즈 수를 조회합니다.
+     *
+     * @return 퀴즈 수가 많은 순의 {@link AuthorCount} 목록
+     */
+    List<AuthorCount> selectAuthorCounts();
+
     /**
      * 특정 퀴즈의 정답 여부를 확인합니다.
      *
@@ -56,6 +106,18 @@ public interface QuizService {
      */
     Boolean checkQuiz(Integer id, Boolean myAnswer);
 
+    /**
+     * 서명된 정답 토큰으로 제출한 답변을 채점합니다.
+     * <p>
+     * 토큰 서명만 검증하므로 데이터베이스나 캐시를 조회하지 않습니다.
+     * </p>
+     *
+     * @param token    {@code /quiz/play} 에서 발급한 정답 토큰
+     * @param myAnswer 사용자가 제출한 답변
+     * @return 채점 결과 {@link TokenCheckResult}
+     */
+    TokenCheckResult checkQuizByToken(String token, Boolean myAnswer);
+
     /**
      * 새로운 퀴즈를 등록합니다.
      *
@@ -70,6 +132,15 @@ public interface QuizService {
      */
     void updateQuiz(Quiz quiz);
 
+    /**
+     * 행 버전이 일치할 때만 퀴즈 정보를 업데이트합니다.
+     *
+     * @param quiz            업데이트할 퀴즈 정보가 담긴 {@link Quiz} 객체
+     * @param expectedVersion 클라이언트가 알고 있는 행 버전
+     * @return 업데이트했으면 {@code true}, 버전이 다르거나 퀴즈가 없으면 {@code false}
+     */
+    boolean updateQuizIfVersion(Quiz quiz, long expectedVersion);
+
     /**
      * 주어진 ID를 사용하여 퀴즈를 삭제합니다.
      *
@@ -78,11 +149,66 @@ public interface QuizService {
     void deleteQuizById(Integer id);
 
     /**
-     * 무작위로 5개의 퀴즈를 조회합니다.
+     * 행 버전이 일치할 때만 퀴즈를 삭제합니다.
      *
-     * @return 무작위로 선택된 5개의 {@link List<String>} 객체 목록
+     * @param id              삭제할 퀴즈의 id
+     * @param expectedVersion 클라이언트가 알고 있는 행 버전
+     * @return 삭제했으면 {@code true}, 버전이 다르거나 퀴즈가 없으면 {@code false}
      */
-    List<String> getRandomQuizzes();
+    boolean deleteQuizIfVersion(int id, long expectedVersion);
 
+    /**
+     * 캐시를 거치지 않고 퀴즈 내용과 행 버전을 한 행에서 함께 조회합니다.
+     * <p>
+     * 강한 ETag 를 붙이는 응답처럼 본문과 버전이 반드시 같은 행에서 나와야 하는 경우에 사용합니다.
+     * </p>
+     *
+     * @param id 퀴즈 ID
+     * @return 퀴즈와 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    Optional<VersionedQuiz> selectVersionedById(int id);
 
+    /**
+     * 행 버전을 주 데이터베이스에서 조회합니다.
+     * <p>
+     * 쓰기 직후 응답에 붙일 ETag 나 쓰기 전후의 존재 여부 판단처럼, 복제 지연으로 옛 값을 읽으면 안 되는 경우에 사용합니다.
+     * </p>
+     *
+     * @param id 퀴즈 ID
+     * @return 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    Optional<QuizVersion> selectVersionForWrite(int id);
+
+    /**
+     * 여러 퀴즈의 행 버전을 조회합니다.
+     *
+     * @param ids 퀴즈 ID 목록
+     * @return 존재하는 퀴즈의 행 버전 목록
+     */
+    List<QuizVersion> selectVersions(Collection<Integer> ids);
+
+    /**
+     * 무작위로 선택된 중복 없는 퀴즈 목록을 조회합니다.
+     *
+     * @param size 조회할 퀴즈 수
+     * @return 무작위로 선택된 {@link List<Quiz>} 목록. 등록된 퀴즈가 {@code size} 보다 적으면 전부를 반환
+     */
+    List<Quiz> getRandomQuizzes(int size);
+
+    /**
+     * 시험 모드 답안을 한 번에 채점합니다.
+     *
+     * @param ids     서버가 출제한 퀴즈 ID 목록. 클라이언트가 보낸 ID 를 그대로 넘기면 임의 문항으로 점수를 얻을 수 있음
+     * @param answers 퀴즈 ID 별 제출한 답. 답하지 않은 문항은 없음
+     * @return 채점 결과 {@link ExamResult}
+     */
+    ExamResult gradeExam(List<Integer> ids, Map<Integer, Boolean> answers);
+
+    /**
+     * 정답률이 가장 낮은 퀴즈 목록을 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 정답률 오름차순 {@link QuizAccuracy} 목록
+     */
+    List<QuizAccuracy> selectHardestQuizzes(int limit);
 }
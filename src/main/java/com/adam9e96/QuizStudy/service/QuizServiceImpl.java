@@ -1,13 +1,34 @@
 package com.adam9e96.QuizStudy.service;
 
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+import com.adam9e96.QuizStudy.dto.ExamResult;
+import com.adam9e96.QuizStudy.dto.QuizAccuracy;
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
 import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics.AnswerSource;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics.RandomPath;
 import com.adam9e96.QuizStudy.repository.QuizRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Quiz 서비스 구현 클래스
@@ -35,6 +56,7 @@ import java.util.Optional;
  * <ul>
  *     <li>{@code @Service}: 이 클래스가 서비스 계층의 컴포넌트임을 Spring에게 알립니다.</li>
  *     <li>{@code @Transactional}: 이 클래스의 모든 메서드가 트랜잭션 내에서 실행되도록 설정합니다.</li>
+ *     <li>{@code @Transactional(readOnly = true)}: 조회 메서드에 붙이며, 복제본이 설정된 경우 이 트랜잭션은 읽기 전용 복제본에서 실행됩니다.</li>
  *     <li>{@code @RequiredArgsConstructor}: Lombok을 사용하여 필드에 대한 생성자를 자동으로 생성합니다. final 필드에 대한 생성자 주입을 용이하게 합니다.</li>
  * </ul>
  * </p>
@@ -61,16 +83,147 @@ public class QuizServiceImpl implements QuizService {
      */
     private final QuizRepository quizRepository;
 
+    /**
+     * 단건 조회용 읽기 관통 캐시
+     */
+    private final QuizCache quizCache;
+
+    /**
+     * 메모리에 보관된 퀴즈 ID 로 무작위 선택을 수행하는 엔진
+     */
+    private final RandomQuizSelector randomQuizSelector;
+
+    /**
+     * 퀴즈 ID 별 정답을 메모리에 보관하는 인덱스
+     */
+    private final AnswerIndex answerIndex;
+
+    /**
+     * 작성자별 퀴즈 ID 와 퀴즈 수를 메모리에 보관하는 색인
+     */
+    private final AuthorIndex authorIndex;
+
+    /**
+     * 오답률 가중 무작위 선택 엔진 (별칭 테이블)
+     */
+    private final AdaptiveQuizSelector adaptiveQuizSelector;
+
+    /**
+     * 플레이어별 간격 반복 복습 스케줄러
+     */
+    private final ReviewScheduler reviewScheduler;
+
+    /**
+     * 서명된 정답 토큰 발급/검증 서비스
+     */
+    private final AnswerTokenService answerTokenService;
+
+    /**
+     * 퀴즈 변경 이벤트({@link QuizChangedEvent}) 발행기
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 채점 결과 / 무작위 선택 경로 카운터
+     */
+    private final QuizMetrics quizMetrics;
+
+    /**
+     * 채점 이력 기록기 (버퍼링 후 배치 저장)
+     */
+    private final AttemptRecorder attemptRecorder;
+
+    /**
+     * 퀴즈별 실시간 정답률 집계
+     */
+    private final AttemptStats attemptStats;
+
+    /**
+     * 무작위 목록 한 번에 조회할 수 있는 최대 퀴즈 수
+     */
+    @Value("${quiz.random.max-batch-size:50}")
+    private int maxRandomBatchSize;
+
+    /**
+     * 목록 한 페이지에 표시할 수 있는 최대 퀴즈 수
+     */
+    @Value("${quiz.page.max-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 정답률 통계에 포함할 최소 채점 횟수
+     */
+    @Value("${quiz.attempt.stats-min-attempts:5}")
+    private long statsMinAttempts;
+
     /**
      * 등록된 모든 퀴즈 정보를 조회합니다.
      *
      * @return 등록된 모든 퀴즈의 {@link Iterable} 컬렉션
      */
     @Override
+    @Transactional(readOnly = true)
     public Iterable<Quiz> selectAll() {
         return quizRepository.findAll();
     }
 
+    /**
+     * 키셋 페이징으로 퀴즈 목록의 한 페이지를 조회합니다.
+     *
+     * <p>
+     * 다음 페이지 존재 여부를 알기 위해 {@code size + 1} 건을 조회하고, 이전 페이지는 역순으로 조회한 뒤 뒤집습니다.
+     * {@code after} 로 넘어온 페이지의 이전 페이지 존재 여부는 첫 행보다 작은 ID 가 있는지 기본 키 인덱스로 확인합니다.
+     * 커서 앞의 행이 삭제되었거나 {@code after=1} 처럼 앞에 행이 없으면 이전 링크를 만들지 않습니다.
+     * OFFSET 을 사용하지 않으므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     * </p>
+     *
+     * @param after  이 ID 다음부터 조회. {@code before} 와 함께 주어지지 않으면 첫 페이지
+     * @param before 이 ID 이전까지 조회. 주어지면 {@code after} 보다 우선
+     * @param size   페이지 크기. 1 이상 {@code quiz.page.max-size} 이하로 보정됩니다.
+     * @param author 작성자 필터. {@code null} 또는 공백이면 전체
+     * @return 조회된 {@link QuizPage}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public QuizPage selectPage(Integer after, Integer before, int size, String author) {
+        int limit = Math.clamp(size, 1, maxPageSize);
+        String authorFilter = (author == null || author.isBlank()) ? null : author.strip();
+
+        if (before != null) {
+            List<Quiz> rows = authorFilter == null
+                    ? quizRepository.findPageBefore(before, limit + 1)
+                    : quizRepository.findPageByAuthorBefore(authorFilter, before, limit + 1);
+            boolean hasPrev = rows.size() > limit;
+            List<Quiz> content = new ArrayList<>(rows.subList(0, Math.min(limit, rows.size())));
+            Collections.reverse(content);
+            if (content.isEmpty()) {
+                return new QuizPage(content, null, null, limit, authorFilter);
+            }
+            return new QuizPage(content,
+                    hasPrev ? content.get(0).getId() : null,
+                    content.get(content.size() - 1).getId(),
+                    limit, authorFilter);
+        }
+
+        int afterId = after == null ? 0 : after;
+        List<Quiz> rows = authorFilter == null
+                ? quizRepository.findPageAfter(afterId, limit + 1)
+                : quizRepository.findPageByAuthorAfter(authorFilter, afterId, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<Quiz> content = rows.subList(0, Math.min(limit, rows.size()));
+        if (content.isEmpty()) {
+            return new QuizPage(content, null, null, limit, authorFilter);
+        }
+        int firstId = content.get(0).getId();
+        boolean hasPrev = afterId > 0 && (authorFilter == null
+                ? quizRepository.existsBefore(firstId)
+                : quizRepository.existsByAuthorBefore(authorFilter, firstId));
+        return new QuizPage(content,
+                hasPrev ? firstId : null,
+                hasNext ? content.get(content.size() - 1).getId() : null,
+                limit, authorFilter);
+    }
+
     /**
      * 주어진 ID를 사용하여 특정 퀴즈 정보를 조회합니다.
      *
@@ -78,18 +231,41 @@ public class QuizServiceImpl implements QuizService {
      * @return 해당 ID에 해당하는 퀴즈 정보가 존재하면 {@link Optional}로 반환하고, 존재하지 않으면 빈 {@link Optional}을 반환
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Quiz> selectOneById(int id) {
-        return quizRepository.findById(id);
+        return quizCache.findById(id);
     }
 
 
     /**
      * 데이터베이스에서 무작위로 선택된 퀴즈 정보를 조회합니다.
      *
+     * <p>
+     * {@link RandomQuizSelector} 가 준비되어 있으면 메모리에서 ID 를 고른 뒤 한 건만 조회하고,
+     * 인덱스가 아직 준비되지 않았거나 이미 삭제된 ID 를 고른 경우에만 SQL 무작위 조회로 대체합니다.
+     * </p>
+     *
      * @return 무작위로 선택된 퀴즈의 {@link Optional} 객체. 퀴즈가 존재하지 않으면 빈 {@link Optional}을 반환
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Quiz> selectOneRandomQuiz() {
+        if (randomQuizSelector.isLoaded()) {
+            OptionalInt picked = randomQuizSelector.pick();
+            if (picked.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<Quiz> quiz = quizCache.findById(picked.getAsInt());
+            if (quiz.isPresent()) {
+                quizMetrics.randomSelection(RandomPath.INDEX);
+                return quiz;
+            }
+            // 다른 인스턴스에서 삭제되어 인덱스에 남아 있던 ID
+            randomQuizSelector.evict(picked.getAsInt());
+            quizMetrics.randomSelection(RandomPath.EVICTED);
+        }
+        quizMetrics.randomSelection(RandomPath.SQL);
+
         // 랜덤으로 id 값을 가져오기
         Integer randId = quizRepository.getRandomId();
 
@@ -98,35 +274,184 @@ public class QuizServiceImpl implements QuizService {
             // 빈 Optional 인스턴스를 반환
             return Optional.empty();
         }
-        return quizRepository.findById(randId);
+        return quizCache.findById(randId);
 
     }
 
 
+    /**
+     * 특정 작성자의 퀴즈 중 무작위로 하나를 조회합니다.
+     *
+     * <p>
+     * {@link AuthorIndex} 에서 ID 를 고르며, 색인이 준비되지 않았거나 이미 삭제된 ID 를 고른 경우에만
+     * {@code (author, id)} 인덱스를 사용하는 SQL 로 대체합니다.
+     * </p>
+     *
+     * @param author 작성자
+     * @return 무작위로 선택된 퀴즈. 해당 작성자의 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Quiz> selectOneRandomQuizByAuthor(String author) {
+        if (author == null || author.isBlank()) {
+            return selectOneRandomQuiz();
+        }
+        String trimmed = author.strip();
+        if (authorIndex.isLoaded()) {
+            OptionalInt picked = authorIndex.pick(trimmed);
+            if (picked.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<Quiz> quiz = quizCache.findById(picked.getAsInt());
+            if (quiz.isPresent()) {
+                quizMetrics.randomSelection(RandomPath.INDEX);
+                return quiz;
+            }
+            authorIndex.evict(picked.getAsInt());
+            quizMetrics.randomSelection(RandomPath.EVICTED);
+        }
+        quizMetrics.randomSelection(RandomPath.SQL);
+        Integer randId = quizRepository.getRandomIdByAuthor(trimmed);
+        return randId == null ? Optional.empty() : quizCache.findById(randId);
+    }
+
+    /**
+     * 오답률이 높은 퀴즈일수록 자주 나오도록 가중치를 두어 무작위로 하나를 조회합니다.
+     *
+     * <p>
+     * {@link AdaptiveQuizSelector} 의 별칭 테이블에서 O(1) 로 ID 를 고른 뒤 캐시로 조회합니다.
+     * 테이블이 아직 만들어지지 않았거나 이미 삭제된 ID 를 고른 경우에는 균등 무작위 선택으로 대체합니다.
+     * </p>
+     *
+     * @return 선택된 퀴즈. 퀴즈가 존재하지 않으면 빈 {@link Optional}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Quiz> selectOneAdaptiveQuiz() {
+        OptionalInt picked = adaptiveQuizSelector.pick();
+        if (picked.isPresent()) {
+            Optional<Quiz> quiz = quizCache.findById(picked.getAsInt());
+            if (quiz.isPresent()) {
+                quizMetrics.randomSelection(RandomPath.INDEX);
+                return quiz;
+            }
+            adaptiveQuizSelector.evict(picked.getAsInt());
+            randomQuizSelector.evict(picked.getAsInt());
+            quizMetrics.randomSelection(RandomPath.EVICTED);
+        }
+        return selectOneRandomQuiz();
+    }
+
+    /**
+     * 플레이어가 복습할 차례인 퀴즈를 조회합니다.
+     *
+     * <p>
+     * {@link ReviewScheduler} 가 메모리에서 고른 ID 를 캐시로 조회하며,
+     * 그 사이 삭제된 퀴즈를 고른 경우에는 카드에서 제거하고 다시 고릅니다.
+     * </p>
+     *
+     * @param player 플레이어 이름
+     * @return 다음 복습 퀴즈. 등록된 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Quiz> selectNextReviewQuiz(String player) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            OptionalInt picked = reviewScheduler.next(player);
+            if (picked.isEmpty()) {
+                return Optional.empty();
+            }
+            Optional<Quiz> quiz = quizCache.findById(picked.getAsInt());
+            if (quiz.isPresent()) {
+                return quiz;
+            }
+            reviewScheduler.forget(player, picked.getAsInt());
+            randomQuizSelector.evict(picked.getAsInt());
+        }
+        return selectOneRandomQuiz();
+    }
+
+    /**
+     * 작성자별 퀴즈 수를 조회합니다.
+     *
+     * <p>
+     * 등록/수정/삭제 시 증감되는 {@link AuthorIndex} 의 값을 사용하므로 {@code GROUP BY} 를 실행하지 않습니다.
+     * </p>
+     *
+     * @return 퀴즈 수가 많은 순의 {@link AuthorCount} 목록
+     */
+    @Override
+    public List<AuthorCount> selectAuthorCounts() {
+        return authorIndex.counts();
+    }
+
     /**
      * 특정 퀴즈의 정답 여부를 확인합니다.
      *
+     * <p>
+     * {@link AnswerIndex} 에서 정답을 조회하므로 평상시에는 데이터베이스에 접근하지 않습니다.
+     * 인덱스에 없는 퀴즈인 경우에만 데이터베이스에서 조회하고, 결과를 인덱스에 채워 둡니다.
+     * </p>
+     *
      * @param id       정답 여부를 확인할 퀴즈의 고유 ID
      * @param myAnswer 사용자가 제출한 답변 (true: 정답, false: 오답)
      * @return 퀴즈의 정답과 사용자의 답변이 일치하면 {@code true}, 그렇지 않으면 {@code false}
      */
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkQuiz(Integer id, Boolean myAnswer) {
-        // 퀴즈 정답/오답 판단용 변수
-        Boolean check = false;
+        if (id == null || myAnswer == null) {
+            return false;
+        }
 
-        // 대상 퀴즈를 가져오기
-        Optional<Quiz> optionalQuiz = quizRepository.findById(id);
+        // 정답 인덱스에서 조회
+        int answer = answerIndex.lookup(id);
+        if (answer != AnswerIndex.UNKNOWN) {
+            boolean correct = myAnswer == (answer == AnswerIndex.TRUE);
+            quizMetrics.answer(AnswerSource.INDEX, correct);
+            attemptRecorder.record(id, myAnswer, correct);
+            return correct;
+        }
+
+        // 인덱스에 없으면 대상 퀴즈를 가져오기
+        Optional<Quiz> optionalQuiz = quizCache.findById(id);
 
         // 퀴즈를 가져왔는지 확인
         if (optionalQuiz.isPresent()) {
             Quiz quiz = optionalQuiz.get();
+            answerIndex.putIfAbsent(quiz);
             // 퀴즈 정답 확인
-            if (quiz.getAnswer().equals(myAnswer)) {
-                check = true;
+            boolean correct = quiz.getAnswer().equals(myAnswer);
+            quizMetrics.answer(AnswerSource.DATABASE, correct);
+            attemptRecorder.record(id, myAnswer, correct);
+            return correct;
+        }
+        return false;
+    }
+
+    /**
+     * 서명된 정답 토큰으로 제출한 답변을 채점합니다.
+     *
+     * @param token    {@code /quiz/play} 에서 발급한 정답 토큰
+     * @param myAnswer 사용자가 제출한 답변
+     * @return 채점 결과 {@link TokenCheckResult}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TokenCheckResult checkQuizByToken(String token, Boolean myAnswer) {
+        if (myAnswer == null) {
+            return TokenCheckResult.invalid();
+        }
+        TokenCheckResult result = answerTokenService.verify(token, myAnswer);
+        switch (result.verdict()) {
+            case CORRECT, INCORRECT -> {
+                quizMetrics.answer(AnswerSource.TOKEN, result.isCorrect());
+                attemptRecorder.record(result.quizId(), myAnswer, result.isCorrect());
+            }
+            default -> {
             }
         }
-        return check;
+        return result;
     }
 
     /**
@@ -137,7 +462,8 @@ public class QuizServiceImpl implements QuizService {
      */
     @Override
     public void insertQuiz(Quiz quiz) {
-        quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizChangedEvent.inserted(saved));
     }
 
     /**
@@ -145,13 +471,39 @@ public class QuizServiceImpl implements QuizService {
      *
      * <p>
      * {@code Quiz} 객체의 ID를 사용하여 해당 퀴즈를 찾아 업데이트합니다.
+     * 행 버전은 엔티티에 매핑되어 있지 않으므로 같은 트랜잭션에서 따로 증가시킵니다.
      * </p>
      *
      * @param quiz 업데이트할 퀴즈 정보가 담긴 {@link Quiz} 객체. 객체의 ID는 업데이트할 퀴즈의 고유 ID를 나타냅니다.
      */
     @Override
     public void updateQuiz(Quiz quiz) {
-        quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        quizRepository.incrementVersion(saved.getId());
+        eventPublisher.publishEvent(QuizChangedEvent.updated(saved));
+    }
+
+    /**
+     * 행 버전이 일치할 때만 퀴즈 정보를 업데이트합니다.
+     *
+     * <p>
+     * 버전 비교와 수정을 {@code UPDATE ... WHERE version = ?} 한 문장으로 처리하므로
+     * 동시에 들어온 수정 중 하나만 성공합니다.
+     * </p>
+     *
+     * @param quiz            업데이트할 퀴즈 정보가 담긴 {@link Quiz} 객체
+     * @param expectedVersion 클라이언트가 알고 있는 행 버전
+     * @return 업데이트했으면 {@code true}, 버전이 다르거나 퀴즈가 없으면 {@code false}
+     */
+    @Override
+    public boolean updateQuizIfVersion(Quiz quiz, long expectedVersion) {
+        int updated = quizRepository.updateIfVersion(quiz.getId(), quiz.getQuestion(), quiz.getAnswer(),
+                quiz.getAuthor(), expectedVersion);
+        if (updated == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(QuizChangedEvent.updated(quiz));
+        return true;
     }
 
     /**
@@ -166,13 +518,185 @@ public class QuizServiceImpl implements QuizService {
     @Override
     public void deleteQuizById(Integer id) {
         quizRepository.deleteById(id);
+        eventPublisher.publishEvent(QuizChangedEvent.deleted(id));
     }
 
+    /**
+     * 행 버전이 일치할 때만 퀴즈를 삭제합니다.
+     *
+     * @param id              삭제할 퀴즈의 고유 ID
+     * @param expectedVersion 클라이언트가 알고 있는 행 버전
+     * @return 삭제했으면 {@code true}, 버전이 다르거나 퀴즈가 없으면 {@code false}
+     */
     @Override
-    public List<String> getRandomQuizzes() {
-        // Pageable 객체를 생성하여 상위 5개의 결과를 요청
-//        PageRequest pageRequest = PageRequest.of(0, 5);
-        return quizRepository.getRandomQuestions();
+    public boolean deleteQuizIfVersion(int id, long expectedVersion) {
+        if (quizRepository.deleteIfVersion(id, expectedVersion) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(QuizChangedEvent.deleted(id));
+        return true;
+    }
+
+    /**
+     * 퀴즈 내용과 행 버전을 한 행에서 함께 조회합니다.
+     *
+     * <p>
+     * {@link QuizCache} 는 다른 인스턴스의 변경으로 무효화되지 않으므로 거치지 않습니다.
+     * 캐시의 본문과 데이터베이스의 버전을 섞으면 새 ETag 에 옛 본문이 붙고, 클라이언트는 그 본문을 계속 304 로 재검증하게 됩니다.
+     * </p>
+     *
+     * @param id 퀴즈 ID
+     * @return 퀴즈와 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VersionedQuiz> selectVersionedById(int id) {
+        return quizRepository.findVersionedById(id);
+    }
+
+    /**
+     * 행 버전을 주 데이터베이스에서 조회합니다.
+     *
+     * <p>
+     * 읽기 전용이 아닌 트랜잭션에서 실행되므로 복제본이 설정되어 있어도 주 데이터베이스를 읽습니다.
+     * 방금 커밋한 쓰기의 버전을 복제본이 아직 받지 못해 옛 ETag 를 돌려주는 일을 막습니다.
+     * </p>
+     *
+     * @param id 퀴즈 ID
+     * @return 행 버전. 퀴즈가 없으면 빈 {@link Optional}
+     */
+    @Override
+    public Optional<QuizVersion> selectVersionForWrite(int id) {
+        return quizRepository.findVersionById(id);
+    }
+
+    /**
+     * 여러 퀴즈의 행 버전을 조회합니다.
+     *
+     * @param ids 퀴즈 ID 목록
+     * @return 존재하는 퀴즈의 행 버전 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizVersion> selectVersions(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return quizRepository.findVersionsByIdIn(ids);
+    }
+
+    /**
+     * 중복 없는 무작위 퀴즈 목록을 조회합니다.
+     *
+     * <p>
+     * {@link RandomQuizSelector} 에서 ID 를 고른 뒤 {@code WHERE id IN (...)} 한 번으로 조회하므로
+     * 비용은 테이블 크기와 무관하게 요청한 개수에만 비례합니다.
+     * 이미 삭제된 ID 가 섞여 부족한 경우에는 해당 ID 를 인덱스에서 제거하고 한 번 더 채웁니다.
+     * </p>
+     *
+     * @param size 조회할 퀴즈 수. 1 이상 {@code quiz.random.max-batch-size} 이하로 보정됩니다.
+     * @return 무작위로 선택된 {@link Quiz} 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Quiz> getRandomQuizzes(int size) {
+        int limit = Math.clamp(size, 1, maxRandomBatchSize);
+        if (!randomQuizSelector.isLoaded()) {
+            quizMetrics.randomSelection(RandomPath.SQL);
+            return quizRepository.findRandomQuizzes(limit);
+        }
+        quizMetrics.randomSelection(RandomPath.INDEX);
+
+        Map<Integer, Quiz> found = new LinkedHashMap<>();
+        for (int attempt = 0; attempt < 2 && found.size() < limit; attempt++) {
+            int[] ids = randomQuizSelector.pickDistinct(limit + found.size());
+            List<Integer> wanted = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                if (!found.containsKey(id)) {
+                    wanted.add(id);
+                }
+            }
+            for (Quiz quiz : quizRepository.findAllById(wanted)) {
+                found.put(quiz.getId(), quiz);
+            }
+            for (Integer id : wanted) {
+                if (!found.containsKey(id)) {
+                    randomQuizSelector.evict(id);
+                }
+            }
+        }
+        List<Quiz> result = new ArrayList<>(found.values());
+        Collections.shuffle(result);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * 시험 모드 답안을 한 번에 채점합니다.
+     *
+     * <p>
+     * 문항 수와 관계없이 {@code WHERE id IN (...)} 한 번으로 퀴즈 내용과 정답을 읽어 채점하고,
+     * 채점 이력은 {@link AttemptRecorder} 에 넘겨 배치로 저장합니다.
+     * 중복된 ID 는 한 번만 채점하며, 그 사이 삭제된 퀴즈는 결과에서 제외합니다.
+     * </p>
+     *
+     * @param ids     서버가 출제한 퀴즈 ID 목록. 클라이언트가 보낸 ID 를 그대로 넘기면 임의 문항으로 점수를 얻을 수 있음
+     * @param answers 퀴즈 ID 별 제출한 답. 답하지 않은 문항은 없음
+     * @return 채점 결과 {@link ExamResult}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ExamResult gradeExam(List<Integer> ids, Map<Integer, Boolean> answers) {
+        List<Integer> asked = ids.stream().filter(Objects::nonNull).distinct().limit(maxRandomBatchSize).toList();
+        if (asked.isEmpty()) {
+            return new ExamResult(List.of(), 0);
+        }
+        Map<Integer, Quiz> found = new HashMap<>(asked.size() * 2);
+        for (Quiz quiz : quizRepository.findAllById(asked)) {
+            found.put(quiz.getId(), quiz);
+        }
+
+        List<ExamResult.Item> items = new ArrayList<>(asked.size());
+        int correctCount = 0;
+        for (Integer id : asked) {
+            Quiz quiz = found.get(id);
+            if (quiz == null) {
+                continue;
+            }
+            answerIndex.putIfAbsent(quiz);
+            Boolean myAnswer = answers.get(id);
+            boolean correct = quiz.getAnswer().equals(myAnswer);
+            if (myAnswer != null) {
+                quizMetrics.answer(AnswerSource.DATABASE, correct);
+                attemptRecorder.record(id, myAnswer, correct);
+            }
+            if (correct) {
+                correctCount++;
+            }
+            items.add(new ExamResult.Item(id, quiz.getQuestion(), myAnswer, quiz.getAnswer(), correct));
+        }
+        return new ExamResult(items, correctCount);
+    }
+
+    /**
+     * 정답률이 가장 낮은 퀴즈 목록을 조회합니다.
+     *
+     * <p>
+     * 정답률은 {@link AttemptStats} 의 메모리 집계에서 고르고, 퀴즈 내용만 캐시를 통해 채웁니다.
+     * </p>
+     *
+     * @param limit 최대 개수
+     * @return 정답률 오름차순 {@link QuizAccuracy} 목록
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizAccuracy> selectHardestQuizzes(int limit) {
+        List<QuizAccuracy> hardest = attemptStats.hardest(Math.clamp(limit, 1, maxPageSize), statsMinAttempts);
+        List<QuizAccuracy> result = new ArrayList<>(hardest.size());
+        for (QuizAccuracy accuracy : hardest) {
+            quizCache.findById(accuracy.quizId())
+                    .ifPresent(quiz -> result.add(accuracy.withQuestion(quiz.getQuestion())));
+        }
+        return result;
     }
 
 }
@@ -0,0 +1,226 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 무작위 퀴즈 선택 엔진
+ *
+ * <p>
+ * 현재 존재하는 퀴즈 ID 를 메모리의 {@link IntIdSet} 에 보관하여,
+ * {@code order by random()} 으로 테이블 전체를 정렬하지 않고 배열 인덱스 한 번으로 무작위 ID 를 고릅니다.
+ * </p>
+ *
+ * <p>
+ * <strong>동기화 방식:</strong>
+ * <ul>
+ *     <li>기동 완료, 일괄 등록, 주기적 재동기화 시 {@link QuizIndexRebuilder} 가 다른 색인과 함께 한 번의 조회로 재구축합니다.</li>
+ *     <li>{@link QuizChangedEvent} 를 커밋 이후에 받아 등록/삭제를 반영합니다.</li>
+ * </ul>
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class RandomQuizSelector implements RebuildableIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 현재 유효한 퀴즈 ID 집합. {@link #lock} 으로 보호됩니다.
+     */
+    private IntIdSet ids = new IntIdSet();
+
+    /**
+     * 진행 중인 재구축이 소유한 변경 기록. 재구축 중이 아니면 {@code null} 입니다. {@link #lock} 으로 보호됩니다.
+     */
+    private List<QuizChangedEvent> pendingChanges;
+
+    /**
+     * 최초 재구축이 끝났는지 여부
+     */
+    private volatile boolean loaded;
+
+    /**
+     * 재구축을 시작합니다. 조회하는 동안에도 기존 인덱스로 선택이 가능하며,
+     * 그 사이에 발생한 변경은 교체 직후에 다시 적용합니다.
+     */
+    @Override
+    public Rebuild beginRebuild() {
+        List<QuizChangedEvent> journal = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IntIdSet fresh = new IntIdSet();
+        return new Rebuild() {
+            @Override
+            public void add(Quiz quiz) {
+                fresh.add(quiz.getId());
+            }
+
+            @Override
+            public void commit() {
+                lock.writeLock().lock();
+                try {
+                    for (QuizChangedEvent change : journal) {
+                        apply(fresh, change);
+                    }
+                    pendingChanges = null;
+                    ids = fresh;
+                    loaded = true;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.info("무작위 선택 인덱스 재구축 완료: {}건", fresh.size());
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    pendingChanges = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * 커밋된 퀴즈 변경을 인덱스에 반영합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizChanged(QuizChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(ids, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(IntIdSet target, QuizChangedEvent event) {
+        switch (event.type()) {
+            case INSERTED, UPDATED -> target.add(event.id());
+            case DELETED -> target.remove(event.id());
+        }
+    }
+
+    /**
+     * 무작위로 퀴즈 ID 하나를 선택합니다.
+     *
+     * @return 선택된 퀴즈 ID. 퀴즈가 없으면 빈 {@link OptionalInt}
+     */
+    public OptionalInt pick() {
+        lock.readLock().lock();
+        try {
+            int size = ids.size();
+            if (size == 0) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(ids.get(ThreadLocalRandom.current().nextInt(size)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서로 다른 퀴즈 ID 를 최대 {@code count} 개 무작위로 선택합니다.
+     * <p>
+     * Floyd 의 표본 추출 알고리즘으로 위치를 고르므로 비용은 전체 퀴즈 수와 무관하게 {@code count} 에만 비례합니다.
+     * </p>
+     *
+     * @param count 선택할 개수
+     * @return 중복 없는 퀴즈 ID 배열. 퀴즈 수가 {@code count} 보다 적으면 전부를 무작위 순서로 반환
+     */
+    public int[] pickDistinct(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        lock.readLock().lock();
+        try {
+            int size = ids.size();
+            int k = Math.min(Math.max(count, 0), size);
+            int[] picked = new int[k];
+            Set<Integer> positions = new HashSet<>(k * 2);
+            int filled = 0;
+            for (int j = size - k; j < size; j++) {
+                int position = random.nextInt(j + 1);
+                if (!positions.add(position)) {
+                    positions.add(j);
+                    position = j;
+                }
+                picked[filled++] = ids.get(position);
+            }
+            // Floyd 알고리즘은 순서까지 균등하지는 않으므로 결과를 섞습니다.
+            for (int i = k - 1; i > 0; i--) {
+                int swap = random.nextInt(i + 1);
+                int tmp = picked[i];
+                picked[i] = picked[swap];
+                picked[swap] = tmp;
+            }
+            return picked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 데이터베이스에 더 이상 존재하지 않는 ID 를 인덱스에서 제거합니다.
+     *
+     * @param id 제거할 퀴즈 ID
+     */
+    public void evict(int id) {
+        onQuizChanged(QuizChangedEvent.deleted(id));
+    }
+
+    /**
+     * @return 최초 재구축이 끝나 {@link #pick()} 결과를 신뢰할 수 있으면 {@code true}
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return 현재 인덱스에 있는 모든 퀴즈 ID 의 복사본
+     */
+    public int[] snapshot() {
+        lock.readLock().lock();
+        try {
+            return ids.toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 인덱스에 있는 퀴즈 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
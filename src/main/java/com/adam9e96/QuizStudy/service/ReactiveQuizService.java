@@ -0,0 +1,156 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics.AnswerSource;
+import com.adam9e96.QuizStudy.metrics.QuizMetrics.RandomPath;
+import com.adam9e96.QuizStudy.repository.ReactiveQuizRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * play/check/random 용 논블로킹 퀴즈 서비스
+ *
+ * <p>
+ * {@link QuizServiceImpl} 과 같은 메모리 구성 요소({@link RandomQuizSelector}, {@link AnswerIndex}, {@link QuizCache},
+ * {@link AttemptRecorder}, {@link QuizMetrics})를 공유하므로 선택/채점 결과와 지표는 MVC 경로와 동일합니다.
+ * 데이터베이스가 필요한 경우에만 {@link ReactiveQuizRepository} 로 조회하며, 그동안 요청 스레드를 점유하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 쓰기 작업이 없고 각 조회가 단일 SQL 이므로 트랜잭션을 사용하지 않습니다.
+ * 채점 이력은 {@link AttemptRecorder} 가 버퍼에 담아 별도 스레드에서 저장합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Service
+@ConditionalOnProperty(prefix = "quiz.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveQuizService {
+
+    private final ReactiveQuizRepository reactiveQuizRepository;
+    private final QuizCache quizCache;
+    private final RandomQuizSelector randomQuizSelector;
+    private final AnswerIndex answerIndex;
+    private final QuizMetrics quizMetrics;
+    private final AttemptRecorder attemptRecorder;
+
+    /**
+     * 무작위 목록 한 번에 조회할 수 있는 최대 퀴즈 수
+     */
+    @Value("${quiz.random.max-batch-size:50}")
+    private int maxRandomBatchSize;
+
+    /**
+     * 무작위 목록을 채울 때 동시에 진행할 단건 조회 수
+     */
+    @Value("${quiz.reactive.fetch-concurrency:8}")
+    private int fetchConcurrency;
+
+    /**
+     * 캐시를 거쳐 퀴즈를 조회합니다. 캐시에 없으면 R2DBC 로 읽어 {@link QuizCache} 에 보관합니다.
+     *
+     * @param id 퀴즈 ID
+     * @return 조회된 퀴즈. 없으면 빈 {@link Mono}
+     */
+    public Mono<Quiz> selectOneById(int id) {
+        // 구독 취소가 다른 요청과 공유하는 캐시 future 를 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(() -> quizCache.findByIdAsync(id, key -> reactiveQuizRepository.findById(key).toFuture()), true);
+    }
+
+    /**
+     * 무작위 퀴즈 하나를 조회합니다. {@link QuizServiceImpl#selectOneRandomQuiz()} 와 같은 경로를 따릅니다.
+     *
+     * @return 선택된 퀴즈. 퀴즈가 없으면 빈 {@link Mono}
+     */
+    public Mono<Quiz> selectOneRandomQuiz() {
+        return Mono.defer(() -> {
+            if (!randomQuizSelector.isLoaded()) {
+                return selectOneRandomQuizFromDatabase();
+            }
+            OptionalInt picked = randomQuizSelector.pick();
+            if (picked.isEmpty()) {
+                return Mono.empty();
+            }
+            int id = picked.getAsInt();
+            return selectOneById(id)
+                    .doOnNext(quiz -> quizMetrics.randomSelection(RandomPath.INDEX))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        // 다른 인스턴스에서 삭제되어 인덱스에 남아 있던 ID
+                        randomQuizSelector.evict(id);
+                        quizMetrics.randomSelection(RandomPath.EVICTED);
+                        return selectOneRandomQuizFromDatabase();
+                    }));
+        });
+    }
+
+    private Mono<Quiz> selectOneRandomQuizFromDatabase() {
+        quizMetrics.randomSelection(RandomPath.SQL);
+        return reactiveQuizRepository.getRandomId().flatMap(this::selectOneById);
+    }
+
+    /**
+     * 서로 다른 무작위 퀴즈를 최대 {@code size} 개 조회합니다.
+     *
+     * <p>
+     * 단건 조회를 최대 {@code quiz.reactive.fetch-concurrency} 개까지 동시에 진행하되 선택한 순서대로 내보내며,
+     * 구독자가 요청한 만큼만 조회하므로 느린 클라이언트가 메모리를 쌓지 않습니다.
+     * 이미 삭제된 ID 는 인덱스에서 제거하고 건너뜁니다.
+     * </p>
+     *
+     * @param size 조회할 퀴즈 수. 1 이상 {@code quiz.random.max-batch-size} 이하로 보정됩니다.
+     * @return 무작위로 선택된 퀴즈
+     */
+    public Flux<Quiz> getRandomQuizzes(int size) {
+        int limit = Math.clamp(size, 1, maxRandomBatchSize);
+        return Flux.defer(() -> {
+            if (!randomQuizSelector.isLoaded()) {
+                quizMetrics.randomSelection(RandomPath.SQL);
+                return reactiveQuizRepository.findRandomQuizzes(limit);
+            }
+            quizMetrics.randomSelection(RandomPath.INDEX);
+            return Flux.fromStream(IntStream.of(randomQuizSelector.pickDistinct(limit)).boxed())
+                    .flatMapSequential(id -> selectOneById(id)
+                            .switchIfEmpty(Mono.fromRunnable(() -> randomQuizSelector.evict(id))), fetchConcurrency);
+        });
+    }
+
+    /**
+     * 정답 여부를 확인합니다. {@link QuizServiceImpl#checkQuiz(Integer, Boolean)} 와 같이
+     * {@link AnswerIndex} 를 먼저 보고, 없을 때만 퀴즈를 조회합니다.
+     *
+     * @param id       퀴즈 ID
+     * @param myAnswer 사용자가 제출한 답변
+     * @return 정답이면 {@code true}. 퀴즈가 없으면 {@code false}
+     */
+    public Mono<Boolean> checkQuiz(int id, boolean myAnswer) {
+        return Mono.defer(() -> {
+            int answer = answerIndex.lookup(id);
+            if (answer != AnswerIndex.UNKNOWN) {
+                boolean correct = myAnswer == (answer == AnswerIndex.TRUE);
+                quizMetrics.answer(AnswerSource.INDEX, correct);
+                attemptRecorder.record(id, myAnswer, correct);
+                return Mono.just(correct);
+            }
+            return selectOneById(id)
+                    .map(quiz -> {
+                        answerIndex.putIfAbsent(quiz);
+                        boolean correct = quiz.getAnswer().equals(myAnswer);
+                        quizMetrics.answer(AnswerSource.DATABASE, correct);
+                        attemptRecorder.record(id, myAnswer, correct);
+                        return correct;
+                    })
+                    .defaultIfEmpty(false);
+        });
+    }
+}
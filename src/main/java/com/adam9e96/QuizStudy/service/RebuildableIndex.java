@@ -0,0 +1,47 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+
+/**
+ * 전체 재구축을 {@link QuizIndexRebuilder} 에 맡기는 메모리 색인
+ *
+ * <p>
+ * 재구축은 {@link #beginRebuild()} 로 시작하고, 조회된 모든 퀴즈를 {@link Rebuild#add(Quiz)} 로 받은 뒤
+ * {@link Rebuild#commit()} 으로 기존 색인과 교체합니다. 시작 이후 커밋된 변경 이벤트는
+ * 색인이 직접 기록해 두었다가 교체 직전에 다시 적용합니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public interface RebuildableIndex {
+
+    /**
+     * 재구축을 시작합니다.
+     *
+     * @return 진행할 재구축. 이 색인이 재구축할 필요가 없으면 {@code null}
+     */
+    Rebuild beginRebuild();
+
+    /**
+     * 진행 중인 재구축 한 건
+     */
+    interface Rebuild {
+
+        /**
+         * @param quiz 데이터베이스에서 읽은 퀴즈
+         */
+        void add(Quiz quiz);
+
+        /**
+         * 그동안 기록된 변경을 적용하고 기존 색인과 교체합니다.
+         */
+        void commit();
+
+        /**
+         * 조회가 실패하여 재구축을 중단합니다. 기존 색인은 그대로 유지됩니다.
+         */
+        void abort();
+    }
+}
@@ -0,0 +1,193 @@
+package com.adam9e96.QuizStudy.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ * 플레이어 한 명의 복습 카드 묶음입니다.
+ * </p>
+ *
+ * <p>
+ * 카드는 퀴즈 ID 로 찾는 {@link HashMap} 과 (복습 예정 시각, 퀴즈 ID) 순으로 정렬된 {@link TreeSet} 에 함께 보관하므로,
+ * 가장 먼저 복습할 카드 조회는 O(log n), 채점 후 예정 시각 변경은 꺼냈다 다시 넣는 O(log n) 입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>SM-2:</strong> O/X 답안을 품질 점수로 바꿔(정답 4, 오답 2) 난이도 계수(EF)와 간격을 계산합니다.
+ * <ul>
+ *     <li>정답: 연속 정답 1회째 1일, 2회째 6일, 이후 이전 간격 × EF 일 뒤에 다시 출제</li>
+ *     <li>오답: 연속 정답을 0 으로 되돌리고 {@code relearnDelayMillis} 뒤에 다시 출제</li>
+ *     <li>EF 는 {@code EF + (0.1 - (5 - q) × (0.08 + (5 - q) × 0.02))} 로 갱신하며 1.3 아래로 내려가지 않습니다.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 모든 메서드는 인스턴스 자신으로 동기화하므로 서로 다른 플레이어의 채점은 경합하지 않습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class ReviewDeck {
+
+    static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    static final double INITIAL_EASINESS = 2.5;
+    static final double MIN_EASINESS = 1.3;
+
+    private static final int QUALITY_CORRECT = 4;
+    private static final int QUALITY_WRONG = 2;
+
+    private static final Comparator<Card> BY_DUE =
+            Comparator.comparingLong((Card card) -> card.dueAt).thenComparingInt(card -> card.quizId);
+
+    /**
+     * 저장/복원용 카드 상태
+     *
+     * @param player       플레이어 이름
+     * @param quizId       퀴즈 ID
+     * @param repetitions  연속 정답 횟수
+     * @param easiness     난이도 계수(EF)
+     * @param intervalDays 마지막 복습 간격(일)
+     * @param dueAt        다음 복습 예정 시각 (epoch 밀리초)
+     */
+    record State(String player, int quizId, int repetitions, double easiness, int intervalDays, long dueAt) {
+    }
+
+    private static final class Card {
+        private final int quizId;
+        private int repetitions;
+        private double easiness = INITIAL_EASINESS;
+        private int intervalDays;
+        private long dueAt;
+
+        Card(int quizId) {
+            this.quizId = quizId;
+        }
+    }
+
+    private final String player;
+    private final long relearnDelayMillis;
+
+    private final Map<Integer, Card> cards = new HashMap<>();
+    private final TreeSet<Card> schedule = new TreeSet<>(BY_DUE);
+
+    ReviewDeck(String player, long relearnDelayMillis) {
+        this.player = player;
+        this.relearnDelayMillis = relearnDelayMillis;
+    }
+
+    /**
+     * 저장된 카드 상태를 복원합니다.
+     */
+    synchronized void restore(State state) {
+        Card card = new Card(state.quizId());
+        card.repetitions = state.repetitions();
+        card.easiness = state.easiness();
+        card.intervalDays = state.intervalDays();
+        card.dueAt = state.dueAt();
+        Card previous = cards.put(card.quizId, card);
+        if (previous != null) {
+            schedule.remove(previous);
+        }
+        schedule.add(card);
+    }
+
+    /**
+     * @param now 현재 시각 (epoch 밀리초)
+     * @return 예정 시각이 지난 카드 중 가장 오래 기다린 퀴즈 ID. 없으면 빈 {@link OptionalInt}
+     */
+    synchronized OptionalInt due(long now) {
+        if (schedule.isEmpty() || schedule.first().dueAt > now) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(schedule.first().quizId);
+    }
+
+    /**
+     * @return 예정 시각이 가장 이른 퀴즈 ID (아직 예정 시각 전이어도 반환). 카드가 없으면 빈 {@link OptionalInt}
+     */
+    synchronized OptionalInt earliest() {
+        return schedule.isEmpty() ? OptionalInt.empty() : OptionalInt.of(schedule.first().quizId);
+    }
+
+    /**
+     * 예정 시각이 지난 카드를 앞에서부터 최대 {@code limit} 장까지 셉니다.
+     * <p>
+     * {@code headSet(...).size()} 는 밀린 카드 수만큼 순회하므로, 한도에서 멈춰 비용을 O(log n + limit) 으로 제한합니다.
+     * </p>
+     *
+     * @param now   현재 시각 (epoch 밀리초)
+     * @param limit 셀 최대 개수
+     * @return 예정 시각이 지난 카드 수. {@code limit} 을 넘지 않음
+     */
+    synchronized int dueCount(long now, int limit) {
+        int count = 0;
+        for (Card card : schedule) {
+            if (count >= limit || card.dueAt > now) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    synchronized boolean contains(int quizId) {
+        return cards.containsKey(quizId);
+    }
+
+    synchronized int size() {
+        return cards.size();
+    }
+
+    /**
+     * 삭제된 퀴즈의 카드를 제거합니다.
+     */
+    synchronized void remove(int quizId) {
+        Card card = cards.remove(quizId);
+        if (card != null) {
+            schedule.remove(card);
+        }
+    }
+
+    /**
+     * 채점 결과로 카드의 다음 복습 시각을 계산합니다. 처음 푼 퀴즈면 새 카드를 만듭니다.
+     *
+     * @param quizId  퀴즈 ID
+     * @param correct 정답 여부
+     * @param now     현재 시각 (epoch 밀리초)
+     * @return 저장할 카드 상태
+     */
+    synchronized State review(int quizId, boolean correct, long now) {
+        Card card = cards.get(quizId);
+        if (card == null) {
+            card = new Card(quizId);
+            cards.put(quizId, card);
+        } else {
+            schedule.remove(card);
+        }
+
+        int quality = correct ? QUALITY_CORRECT : QUALITY_WRONG;
+        int penalty = 5 - quality;
+        card.easiness = Math.max(MIN_EASINESS, card.easiness + (0.1 - penalty * (0.08 + penalty * 0.02)));
+        if (correct) {
+            card.repetitions++;
+            card.intervalDays = switch (card.repetitions) {
+                case 1 -> 1;
+                case 2 -> 6;
+                default -> (int) Math.round(card.intervalDays * card.easiness);
+            };
+            card.dueAt = now + card.intervalDays * DAY_MILLIS;
+        } else {
+            card.repetitions = 0;
+            card.intervalDays = 0;
+            card.dueAt = now + relearnDelayMillis;
+        }
+        schedule.add(card);
+        return new State(player, quizId, card.repetitions, card.easiness, card.intervalDays, card.dueAt);
+    }
+}
@@ -0,0 +1,277 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 간격 반복(SM-2) 복습 스케줄러
+ *
+ * <p>
+ * 플레이어마다 {@link ReviewDeck} 을 메모리에 두고, 복습 예정 시각이 지난 카드를 먼저 출제합니다.
+ * 예정된 카드가 없으면 {@link RandomQuizSelector} 로 아직 풀지 않은 퀴즈를 새 카드로 고르고,
+ * 새로 고를 퀴즈도 없으면 가장 빨리 돌아올 카드를 앞당겨 출제합니다.
+ * 다음 퀴즈 선택과 채점 반영은 모두 메모리에서 O(log n) 이며 요청마다 테이블을 조회하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * <strong>저장:</strong> 채점으로 바뀐 카드 상태는 큐에 쌓아 두었다가 {@code quiz.review.checkpoint-interval} 마다
+ * 카드별 마지막 상태만 골라 {@code review_card} 에 UPDATE 후 없으면 INSERT 하는 방식으로 배치 저장합니다.
+ * </p>
+ *
+ * <p>
+ * <strong>메모리:</strong> 카드 묶음은 플레이어가 처음 요청할 때 {@code review_card} 의 기본 키로 그 플레이어 것만 읽어 오며,
+ * {@code quiz.review.idle-timeout} 동안 접근이 없거나 {@code quiz.review.max-players} 를 넘으면 메모리에서 내려놓습니다.
+ * </p>
+ *
+ * @author adam9e96
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@Log4j2
+public class ReviewScheduler {
+
+    private static final String SELECT_SQL = "SELECT quiz_id, repetitions, easiness, interval_days, due_at "
+            + "FROM review_card WHERE player = ?";
+    private static final String UPDATE_SQL = "UPDATE review_card SET repetitions = ?, easiness = ?, "
+            + "interval_days = ?, due_at = ?, updated_at = ? WHERE player = ? AND quiz_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO review_card "
+            + "(repetitions, easiness, interval_days, due_at, updated_at, player, quiz_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 새 카드를 고를 때 이미 가진 퀴즈를 뽑은 경우 다시 뽑는 횟수
+     */
+    private static final int NEW_CARD_ATTEMPTS = 5;
+
+    /**
+     * 화면에 그대로 표시하는 복습 대기 카드 수의 상한. 넘으면 {@code 99+} 로 표시합니다.
+     */
+    public static final int DUE_COUNT_LIMIT = 99;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RandomQuizSelector randomQuizSelector;
+    private final Duration relearnDelay;
+    private final Clock clock;
+
+    private final Cache<String, ReviewDeck> decks;
+
+    /**
+     * 저장 대기 중인 카드 상태
+     */
+    private final Queue<ReviewDeck.State> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * {@link #pending} 에서 옮겨 왔지만 아직 데이터베이스에 저장되지 않은 카드 상태. 저장에 실패하면 다음 주기까지 남습니다.
+     * 상태는 항상 다음 위치에 먼저 넣은 뒤 이전 위치에서 빼므로(대기 → 저장 중 → 데이터베이스),
+     * 묶음을 읽어 올 때 대기 → 저장 중 → 데이터베이스 순으로 보면 잠금 없이도 놓치지 않습니다.
+     */
+    private final Queue<ReviewDeck.State> inFlight = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 저장 주기와 종료 시 저장이 겹치지 않도록 하는 잠금. {@link #pending} / {@link #inFlight} 에서 꺼내는 쪽은 저장 하나뿐입니다.
+     */
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    @Autowired
+    public ReviewScheduler(JdbcTemplate jdbcTemplate,
+                           RandomQuizSelector randomQuizSelector,
+                           @Value("${quiz.review.relearn-delay:PT10M}") Duration relearnDelay,
+                           @Value("${quiz.review.max-players:10000}") long maxPlayers,
+                           @Value("${quiz.review.idle-timeout:PT30M}") Duration idleTimeout) {
+        this(jdbcTemplate, randomQuizSelector, relearnDelay, maxPlayers, idleTimeout, Clock.systemUTC());
+    }
+
+    ReviewScheduler(JdbcTemplate jdbcTemplate, RandomQuizSelector randomQuizSelector, Duration relearnDelay,
+                    long maxPlayers, Duration idleTimeout, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.randomQuizSelector = randomQuizSelector;
+        this.relearnDelay = relearnDelay;
+        this.clock = clock;
+        this.decks = Caffeine.newBuilder()
+                .maximumSize(maxPlayers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * 플레이어가 다음에 풀 퀴즈를 고릅니다.
+     *
+     * @param player 플레이어 이름
+     * @return 퀴즈 ID. 등록된 퀴즈가 없으면 빈 {@link OptionalInt}
+     */
+    public OptionalInt next(String player) {
+        ReviewDeck deck = deck(player);
+        OptionalInt due = deck.due(clock.millis());
+        if (due.isPresent()) {
+            return due;
+        }
+        for (int attempt = 0; attempt < NEW_CARD_ATTEMPTS; attempt++) {
+            OptionalInt fresh = randomQuizSelector.pick();
+            if (fresh.isEmpty()) {
+                break;
+            }
+            if (!deck.contains(fresh.getAsInt())) {
+                return fresh;
+            }
+        }
+        return deck.earliest();
+    }
+
+    /**
+     * 채점 결과를 반영해 다음 복습 시각을 정합니다.
+     *
+     * @param player  플레이어 이름
+     * @param quizId  퀴즈 ID
+     * @param correct 정답 여부
+     */
+    public void record(String player, int quizId, boolean correct) {
+        pending.offer(deck(player).review(quizId, correct, clock.millis()));
+    }
+
+    /**
+     * 이미 삭제된 퀴즈를 플레이어의 카드에서 제거합니다. (저장된 행은 남아 있어도 출제되지 않습니다.)
+     *
+     * @param player 플레이어 이름
+     * @param quizId 퀴즈 ID
+     */
+    public void forget(String player, int quizId) {
+        deck(player).remove(quizId);
+    }
+
+    /**
+     * @param player 플레이어 이름
+     * @return 지금 복습할 차례인 카드 수. {@link #DUE_COUNT_LIMIT} 를 넘으면 {@code DUE_COUNT_LIMIT + 1}
+     */
+    public int dueCount(String player) {
+        return deck(player).dueCount(clock.millis(), DUE_COUNT_LIMIT + 1);
+    }
+
+    /**
+     * 플레이어의 카드 묶음. 메모리에 없으면 데이터베이스에서 읽어 옵니다.
+     * <p>
+     * 조회는 Caffeine 의 compute 밖에서 수행하고, 동시에 읽어 온 경우 먼저 등록된 묶음을 사용합니다.
+     * 묶음이 저장 전에 메모리에서 내려갔다가 다시 읽히는 경우를 위해, 아직 저장되지 않은 이 플레이어의 상태를
+     * 대기 / 저장 중 순서로 모아 두었다가 데이터베이스의 상태 위에 오래된 것부터 덮어씁니다.
+     * 저장과 잠금을 공유하지 않으므로 처음 읽어 오는 플레이어가 배치 저장을 기다리지 않습니다.
+     * </p>
+     */
+    private ReviewDeck deck(String player) {
+        ReviewDeck deck = decks.getIfPresent(player);
+        if (deck != null) {
+            return deck;
+        }
+        List<ReviewDeck.State> queued = unsaved(pending, player);
+        List<ReviewDeck.State> saving = unsaved(inFlight, player);
+        ReviewDeck loaded = new ReviewDeck(player, relearnDelay.toMillis());
+        jdbcTemplate.query(SELECT_SQL, rs -> {
+            loaded.restore(new ReviewDeck.State(player, rs.getInt(1), rs.getInt(2), rs.getDouble(3),
+                    rs.getInt(4), rs.getTimestamp(5).getTime()));
+        }, player);
+        saving.forEach(loaded::restore);
+        queued.forEach(loaded::restore);
+        ReviewDeck existing = decks.asMap().putIfAbsent(player, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static List<ReviewDeck.State> unsaved(Queue<ReviewDeck.State> queue, String player) {
+        List<ReviewDeck.State> states = new ArrayList<>();
+        for (ReviewDeck.State state : queue) {
+            if (state.player().equals(player)) {
+                states.add(state);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * 바뀐 카드 상태를 데이터베이스에 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${quiz.review.checkpoint-interval:PT5S}")
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            flush();
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void flush() {
+        // 저장 중 목록에 먼저 넣은 뒤 대기열에서 뺌 (꺼내는 쪽은 이 메서드뿐이므로 peek 한 상태가 poll 됨)
+        ReviewDeck.State state;
+        while ((state = pending.peek()) != null) {
+            inFlight.offer(state);
+            pending.poll();
+        }
+        // 같은 카드가 여러 번 바뀌었으면 마지막 상태만 저장 (지난 주기에 실패한 상태가 앞에 있음)
+        Map<String, ReviewDeck.State> latest = new LinkedHashMap<>();
+        int taken = 0;
+        for (ReviewDeck.State saving : inFlight) {
+            latest.put(saving.player() + '\u0000' + saving.quizId(), saving);
+            taken++;
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+        List<ReviewDeck.State> changed = new ArrayList<>(latest.values());
+        Timestamp now = new Timestamp(clock.millis());
+        try {
+            int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, changed, changed.size(),
+                    (ps, card) -> bind(ps, card, now));
+            List<ReviewDeck.State> missing = new ArrayList<>();
+            for (int i = 0; i < changed.size(); i++) {
+                if (updated[0][i] == 0) {
+                    missing.add(changed.get(i));
+                }
+            }
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, card) -> bind(ps, card, now));
+            }
+            log.debug("복습 카드 저장: {}건 (신규 {}건)", changed.size(), missing.size());
+            // 데이터베이스에 저장된 뒤에 저장 중 목록에서 뺌
+            for (int i = 0; i < taken; i++) {
+                inFlight.poll();
+            }
+        } catch (DataAccessException e) {
+            // 저장 중 목록에 남겨 두고 다음 주기에 다시 저장 (그 사이 들어온 더 새로운 상태는 뒤에 붙으므로 그 값이 이김)
+            log.error("복습 카드 저장 실패: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpoint();
+    }
+
+    private static void bind(PreparedStatement ps, ReviewDeck.State card, Timestamp now) throws SQLException {
+        ps.setInt(1, card.repetitions());
+        ps.setDouble(2, card.easiness());
+        ps.setInt(3, card.intervalDays());
+        ps.setTimestamp(4, new Timestamp(card.dueAt()));
+        ps.setTimestamp(5, now);
+        ps.setString(6, card.player());
+        ps.setInt(7, card.quizId());
+    }
+}
@@ -1,8 +1,46 @@
 create table quiz
 (
-    id       serial
+    id         serial
         primary key,
-    question text        not null,
-    answer   boolean     not null,
-    author   varchar(20) not null
-);
\ No newline at end of file
+    question   text        not null,
+    answer     boolean     not null,
+    author     varchar(20) not null,
+    version    bigint      not null default 0,
+    updated_at timestamp   not null default current_timestamp
+);
+create table quiz_attempt
+(
+    id           bigint generated by default as identity
+        primary key,
+    quiz_id      integer   not null,
+    answer       boolean   not null,
+    correct      boolean   not null,
+    attempted_at timestamp not null
+);
+
+create index quiz_attempt_quiz_id_idx on quiz_attempt (quiz_id);
+
+create table player_score
+(
+    player      varchar(20) not null
+        primary key,
+    score       bigint      not null,
+    attempts    bigint      not null,
+    streak      integer     not null,
+    best_streak integer     not null,
+    updated_at  timestamp   not null
+);
+
+create index quiz_author_id_idx on quiz (author, id);
+
+create table review_card
+(
+    player        varchar(20)      not null,
+    quiz_id       integer          not null,
+    repetitions   integer          not null,
+    easiness      double precision not null,
+    interval_days integer          not null,
+    due_at        timestamp        not null,
+    updated_at    timestamp        not null,
+    primary key (player, quiz_id)
+);
@@ -0,0 +1,11 @@
+-- 퀴즈 본문 전문 검색 (PostgreSQL 전용)
+-- schema.sql 적용 후 한 번 실행합니다. 여러 번 실행해도 안전합니다.
+--   psql -d quiz_application -f src/main/resources/search-postgresql.sql
+-- 한국어 형태소 사전이 없으므로 'simple' 구성(소문자화 + 공백/기호 분리)을 사용합니다.
+-- 이 컬럼이 있으면 QuizSearchIndex 는 메모리 색인을 만들지 않고 GIN 인덱스로 검색합니다.
+
+alter table quiz
+    add column if not exists question_tsv tsvector
+        generated always as (to_tsvector('simple', question)) stored;
+
+create index if not exists quiz_question_tsv_idx on quiz using gin (question_tsv);
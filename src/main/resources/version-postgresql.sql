@@ -0,0 +1,11 @@
+-- 퀴즈 행 버전 컬럼 (PostgreSQL 기존 데이터베이스용)
+-- schema.sql 은 create table 만 하므로, 이 컬럼이 생기기 전에 만든 quiz 테이블에는 한 번 실행해야 합니다.
+-- 여러 번 실행해도 안전합니다.
+--   psql -d quiz_application -f src/main/resources/version-postgresql.sql
+-- version 은 JSON API 의 ETag("<id>-<version>")와 If-Match 비교에, updated_at 은 Last-Modified 에 사용합니다.
+
+alter table quiz
+    add column if not exists version bigint not null default 0;
+
+alter table quiz
+    add column if not exists updated_at timestamp not null default current_timestamp;
@@ -0,0 +1,63 @@
+package com.adam9e96.QuizStudy;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.repository.QuizRepository;
+import com.adam9e96.QuizStudy.repository.ReactiveQuizRepository;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * JDBC 와 R2DBC 가 함께 클래스패스에 있을 때 애플리케이션 컨텍스트가 기동되는지 검증하는 테스트 클래스입니다.
+ * 두 경로가 같은 H2 인메모리 데이터베이스를 바라보도록 설정합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:both_stacks;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.mode=always",
+        "quiz.reactive.enabled=true",
+        "quiz.reactive.r2dbc.url=r2dbc:h2:mem:///both_stacks?options=DB_CLOSE_DELAY=-1",
+        "quiz.reactive.r2dbc.username=sa",
+        "quiz.reactive.r2dbc.password="
+})
+class ReactiveStackContextTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private ReactiveQuizRepository reactiveQuizRepository;
+
+    @Test
+    @DisplayName("JDBC DataSource 가 유지되고 ConnectionFactory 빈은 없으며, 두 리포지토리가 같은 데이터를 읽는다")
+    void testBothStacksShareDatabase() {
+        // Given
+        Quiz saved = quizRepository.save(new Quiz(null, "R2DBC 와 JDBC 가 함께 동작하는가?", true, "작성자1"));
+
+        // When
+        Quiz read = reactiveQuizRepository.findById(saved.getId()).block();
+
+        // Then
+        assertThat(context.getBeanNamesForType(DataSource.class)).isNotEmpty();
+        assertThat(context.getBeanNamesForType(ConnectionFactory.class)).isEmpty();
+        assertThat(read).isNotNull();
+        assertThat(read.getQuestion()).isEqualTo(saved.getQuestion());
+    }
+}
@@ -0,0 +1,87 @@
+package com.adam9e96.QuizStudy.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `ReplicaDataSource` 와 {@link ReadReplicaConfig} 의 읽기/쓰기 분리 구성을 두 개의 H2 메모리 데이터베이스로 검증하는 테스트 클래스입니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class ReplicaDataSourceTest {
+
+    private static final DataSource primary = h2("primary");
+    private static final DataSource replica = h2("replica");
+
+    @BeforeAll
+    static void setUp() {
+        for (DataSource dataSource : List.of(primary, replica)) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("create table if not exists node (name varchar(20))");
+            jdbc.update("delete from node");
+        }
+        new JdbcTemplate(primary).update("insert into node values ('primary')");
+        new JdbcTemplate(replica).update("insert into node values ('replica')");
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    /**
+     * 애플리케이션 구성과 같이 주 데이터베이스를 대상으로, 복제본 묶음을 읽기 전용 대상으로 둔 프록시
+     */
+    private static DataSource routing(ReplicaDataSource replicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicas);
+        return proxy;
+    }
+
+    private static String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        return transaction.execute(status -> jdbc.queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 읽기/쓰기 트랜잭션은 주 데이터베이스에서 실행된다")
+    void testRoutesByReadOnlyFlag() {
+        // Given
+        DataSource dataSource = routing(new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(30)));
+
+        // When & Then
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+        assertThat(currentNode(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 복제본은 건너뛰고, 남은 복제본이 없으면 주 데이터베이스에서 읽는다")
+    void testFallsBackWhenReplicaIsDown() {
+        // Given: 아무도 듣고 있지 않은 포트의 H2 서버 (연결 즉시 실패)
+        DataSource down = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/missing", "sa", "");
+
+        // When
+        String mixed = currentNode(routing(new ReplicaDataSource(primary, List.of(down, replica), Duration.ofSeconds(30))), true);
+        String onlyDown = currentNode(routing(new ReplicaDataSource(primary, List.of(down), Duration.ofSeconds(30))), true);
+
+        // Then
+        assertThat(mixed).isEqualTo("replica");
+        assertThat(onlyDown).isEqualTo("primary");
+    }
+}
@@ -0,0 +1,125 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.service.NearDuplicateIndex;
+import com.adam9e96.QuizStudy.service.QuizService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * <p>
+ * `QuizApiController` 의 조건부 요청(ETag) 처리에 대한 MockMvc 테스트 클래스입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>참고:</strong> {@link QuizService} 는 목 객체로 대체하여 304 / 412 / 404 응답 분기만 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@WebMvcTest(QuizApiController.class)
+class QuizApiControllerTest {
+
+    private static final String BODY = """
+            {"question":"1 + 1 = 2 인가?","answer":true,"author":"작성자1"}""";
+
+    private static final QuizVersion VERSION = new QuizVersion(1, 3, Instant.parse("2026-10-17T00:00:00Z"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private QuizService quizService;
+
+    @MockitoBean
+    private NearDuplicateIndex nearDuplicateIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(nearDuplicateIndex.mode()).thenReturn(NearDuplicateIndex.Mode.WARN);
+        when(quizService.selectVersionedById(1))
+                .thenReturn(Optional.of(new VersionedQuiz(new Quiz(1, "1 + 1 = 2 인가?", true, "작성자1"), VERSION)));
+        when(quizService.selectVersionForWrite(1)).thenReturn(Optional.of(VERSION));
+        when(quizService.selectVersionedById(99)).thenReturn(Optional.empty());
+        when(quizService.selectVersionForWrite(99)).thenReturn(Optional.empty());
+        // 캐시의 옛 내용. 단건 GET 응답에 쓰이면 안 됨
+        when(quizService.selectOneById(1)).thenReturn(Optional.of(new Quiz(1, "옛 질문", false, "작성자1")));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304, 다르면 같은 행의 본문과 ETag 로 응답한다")
+    void testGetNotModified() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/quizzes/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+
+        mockMvc.perform(get("/api/quizzes/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(jsonPath("$.question").value("1 + 1 = 2 인가?"))
+                .andExpect(jsonPath("$.answer").value(true));
+        verify(quizService, never()).selectOneById(anyInt());
+    }
+
+    @Test
+    @DisplayName("If-Match 의 버전이 현재와 다르면 수정/삭제하지 않고 412 로 응답한다")
+    void testStaleIfMatch() throws Exception {
+        // Given
+        when(quizService.updateQuizIfVersion(any(Quiz.class), anyLong())).thenReturn(false);
+        when(quizService.deleteQuizIfVersion(anyInt(), anyLong())).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(put("/api/quizzes/1").header(HttpHeaders.IF_MATCH, "\"1-2\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/quizzes/1").header(HttpHeaders.IF_MATCH, "\"1-2\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/quizzes/1").header(HttpHeaders.IF_MATCH, "\"7-3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("조건부 수정/삭제 대상이 없으면 412 가 아니라 404 로 응답한다")
+    void testMissingQuizIsNotFound() throws Exception {
+        // Given
+        when(quizService.updateQuizIfVersion(any(Quiz.class), anyLong())).thenReturn(false);
+        when(quizService.deleteQuizIfVersion(anyInt(), anyLong())).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(put("/api/quizzes/99").header(HttpHeaders.IF_MATCH, "\"99-0\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/quizzes/99").header(HttpHeaders.IF_MATCH, "\"99-0\""))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/quizzes/99"))
+                .andExpect(status().isNotFound());
+    }
+}
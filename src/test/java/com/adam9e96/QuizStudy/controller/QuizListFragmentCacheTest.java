@@ -0,0 +1,119 @@
+package com.adam9e96.QuizStudy.controller;
+
+import com.adam9e96.QuizStudy.dto.QuizPage;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `QuizListFragmentCache` 에 대한 단위 테스트 클래스입니다.
+ * 캐시에 보관되는 조각에 세션 ID 같은 요청별 값이 섞이지 않는지 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class QuizListFragmentCacheTest {
+
+    private final QuizListFragmentCache fragmentCache = new QuizListFragmentCache(
+            templateEngine(),
+            new DataSourceTransactionManager(
+                    new DriverManagerDataSource("jdbc:h2:mem:fragment_cache;DB_CLOSE_DELAY=-1", "sa", "")),
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofMinutes(1),
+            50);
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        return engine;
+    }
+
+    /**
+     * 쿠키가 없는 요청처럼 모든 링크에 세션 ID 를 붙이는 응답으로 요청을 시작합니다.
+     */
+    private static void startRequest(String sessionId) {
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public String encodeURL(String url) {
+                return url + ";jsessionid=" + sessionId;
+            }
+        };
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/quiz"), response));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("캐시된 목록 조각에는 세션 ID 가 없고, 다른 사용자에게 같은 HTML 이 전달된다")
+    void testCachedFragmentHasNoSessionId() {
+        // Given
+        QuizPage page = new QuizPage(List.of(new Quiz(1, "퀴즈 1", true, "작성자1")), null, 1, 10, null);
+
+        // When
+        startRequest("SESSION-A");
+        String first = fragmentCache.render(null, null, 10, null, () -> page);
+        startRequest("SESSION-B");
+        String second = fragmentCache.render(null, null, 10, null, () -> page);
+
+        // Then
+        assertThat(first).contains("/quiz/delete").doesNotContain("jsessionid");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘거나 음수인 size 는 보정된 크기의 항목 하나를 공유한다")
+    void testSizeIsClampedInKey() {
+        // Given
+        QuizPage page = new QuizPage(List.of(new Quiz(1, "퀴즈 1", true, "작성자1")), null, null, 50, null);
+        AtomicInteger loads = new AtomicInteger();
+        startRequest("SESSION-A");
+
+        // When
+        for (int size : new int[]{50, 1000, Integer.MAX_VALUE}) {
+            fragmentCache.render(null, null, size, null, () -> {
+                loads.incrementAndGet();
+                return page;
+            });
+        }
+        fragmentCache.render(null, null, -5, null, () -> {
+            loads.incrementAndGet();
+            return page;
+        });
+        fragmentCache.render(null, null, 1, null, () -> {
+            loads.incrementAndGet();
+            return page;
+        });
+
+        // Then: 50 / 1000 / MAX 가 한 항목, -5 / 1 이 한 항목
+        assertThat(loads).hasValue(2);
+    }
+}
@@ -1,5 +1,7 @@
 package com.adam9e96.QuizStudy.repository;
 
+import com.adam9e96.QuizStudy.dto.QuizVersion;
+import com.adam9e96.QuizStudy.dto.VersionedQuiz;
 import com.adam9e96.QuizStudy.entity.Quiz;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.jdbc.DataJdbcTest;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -130,6 +133,159 @@ class QuizRepositoryTest {
         }
     }
 
+    /**
+     * 무작위 퀴즈 목록 조회 테스트
+     */
+    @Test
+    @DisplayName("무작위 퀴즈 목록은 중복 없이 요청한 개수만큼 반환")
+    void testFindRandomQuizzes() {
+        // Given
+        for (int i = 1; i <= 10; i++) {
+            quizRepository.save(new Quiz(null, "무작위 퀴즈 " + i, i % 2 == 0, "작성자"));
+        }
+
+        // When
+        List<Quiz> quizzes = quizRepository.findRandomQuizzes(5);
+
+        // Then
+        assertThat(quizzes).hasSize(5).extracting(Quiz::getId).doesNotHaveDuplicates();
+        assertThat(quizzes).allSatisfy(quiz -> assertThat(quiz.getQuestion()).startsWith("무작위 퀴즈"));
+    }
+
+    /**
+     * 행 버전 조회 / 조건부 수정 테스트
+     */
+    @Nested
+    @DisplayName("행 버전 메서드 테스트")
+    class VersionTests {
+
+        @Test
+        @DisplayName("등록 직후 버전은 0 이고 수정할 때마다 1씩 증가")
+        void testIncrementVersion() {
+            // Given
+            Quiz saved = quizRepository.save(new Quiz(null, "버전 퀴즈", true, "작성자"));
+
+            // When
+            QuizVersion before = quizRepository.findVersionById(saved.getId()).orElseThrow();
+            quizRepository.incrementVersion(saved.getId());
+            QuizVersion after = quizRepository.findVersionById(saved.getId()).orElseThrow();
+
+            // Then
+            assertThat(before.version()).isZero();
+            assertThat(after.version()).isEqualTo(1);
+            assertThat(after.etag()).isEqualTo("\"" + saved.getId() + "-1\"");
+        }
+
+        @Test
+        @DisplayName("버전이 다르면 조건부 수정/삭제를 하지 않음")
+        void testUpdateIfVersion() {
+            // Given
+            Quiz saved = quizRepository.save(new Quiz(null, "조건부 퀴즈", true, "작성자"));
+
+            // When
+            int stale = quizRepository.updateIfVersion(saved.getId(), "다른 질문", false, "작성자", 5);
+            int fresh = quizRepository.updateIfVersion(saved.getId(), "바뀐 질문", false, "작성자", 0);
+            int staleDelete = quizRepository.deleteIfVersion(saved.getId(), 0);
+
+            // Then
+            assertThat(stale).isZero();
+            assertThat(fresh).isEqualTo(1);
+            assertThat(staleDelete).isZero();
+            assertThat(quizRepository.findById(saved.getId())).get()
+                    .extracting(Quiz::getQuestion).isEqualTo("바뀐 질문");
+            assertThat(quizRepository.findVersionsByIdIn(List.of(saved.getId())))
+                    .extracting(QuizVersion::version).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("내용과 버전을 같은 행에서 함께 조회")
+        void testFindVersionedById() {
+            // Given
+            Quiz saved = quizRepository.save(new Quiz(null, "버전 포함 퀴즈", false, "작성자"));
+            quizRepository.updateIfVersion(saved.getId(), "바뀐 내용", true, "작성자", 0);
+
+            // When
+            Optional<VersionedQuiz> row = quizRepository.findVersionedById(saved.getId());
+
+            // Then
+            assertThat(row).isPresent();
+            assertThat(row.get().quiz()).isEqualTo(new Quiz(saved.getId(), "바뀐 내용", true, "작성자"));
+            assertThat(row.get().version().version()).isEqualTo(1);
+            assertThat(quizRepository.findVersionedById(-1)).isEmpty();
+        }
+    }
+
+    /**
+     * 키셋 페이징 조회 테스트
+     */
+    @Nested
+    @DisplayName("키셋 페이징 메서드 테스트")
+    class KeysetPageTests {
+
+        @Test
+        @DisplayName("기준 ID 다음 페이지를 ID 오름차순으로 반환")
+        void testFindPageAfter() {
+            // Given
+            for (int i = 1; i <= 5; i++) {
+                quizRepository.save(new Quiz(null, "페이지 퀴즈 " + i, true, i % 2 == 0 ? "짝수" : "홀수"));
+            }
+            List<Quiz> first = quizRepository.findPageAfter(0, 2);
+
+            // When
+            List<Quiz> second = quizRepository.findPageAfter(first.get(1).getId(), 2);
+
+            // Then
+            assertThat(first).extracting(Quiz::getQuestion).containsExactly("페이지 퀴즈 1", "페이지 퀴즈 2");
+            assertThat(second).extracting(Quiz::getQuestion).containsExactly("페이지 퀴즈 3", "페이지 퀴즈 4");
+        }
+
+        @Test
+        @DisplayName("기준 ID 이전 페이지를 ID 내림차순으로 반환")
+        void testFindPageBefore() {
+            // Given
+            for (int i = 1; i <= 5; i++) {
+                quizRepository.save(new Quiz(null, "페이지 퀴즈 " + i, true, "작성자"));
+            }
+            List<Quiz> all = quizRepository.findPageAfter(0, 5);
+
+            // When
+            List<Quiz> previous = quizRepository.findPageBefore(all.get(4).getId(), 2);
+
+            // Then
+            assertThat(previous).extracting(Quiz::getQuestion).containsExactly("페이지 퀴즈 4", "페이지 퀴즈 3");
+        }
+
+        @Test
+        @DisplayName("기준 ID 보다 작은 퀴즈가 있는지 작성자별로 확인")
+        void testExistsBefore() {
+            // Given
+            Quiz first = quizRepository.save(new Quiz(null, "첫 퀴즈", true, "작성자A"));
+            Quiz second = quizRepository.save(new Quiz(null, "둘째 퀴즈", true, "작성자B"));
+
+            // When & Then
+            assertThat(quizRepository.existsBefore(first.getId())).isFalse();
+            assertThat(quizRepository.existsBefore(second.getId())).isTrue();
+            assertThat(quizRepository.existsByAuthorBefore("작성자B", second.getId())).isFalse();
+            assertThat(quizRepository.existsByAuthorBefore("작성자A", second.getId())).isTrue();
+        }
+
+        @Test
+        @DisplayName("작성자 필터를 적용해 페이지를 반환")
+        void testFindPageByAuthorAfter() {
+            // Given
+            for (int i = 1; i <= 5; i++) {
+                quizRepository.save(new Quiz(null, "페이지 퀴즈 " + i, true, i % 2 == 0 ? "짝수" : "홀수"));
+            }
+
+            // When
+            List<Quiz> page = quizRepository.findPageByAuthorAfter("홀수", 0, 10);
+
+            // Then
+            assertThat(page).extracting(Quiz::getQuestion)
+                    .containsExactly("페이지 퀴즈 1", "페이지 퀴즈 3", "페이지 퀴즈 5");
+        }
+    }
+
     /**
      * 모든 퀴즈 조회 테스트
      */
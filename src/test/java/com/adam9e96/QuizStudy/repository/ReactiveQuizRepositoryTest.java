@@ -0,0 +1,77 @@
+package com.adam9e96.QuizStudy.repository;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `ReactiveQuizRepository` 에 대한 단위 테스트 클래스입니다.
+ * </p>
+ *
+ * <p>
+ * <strong>참고:</strong> 이 테스트 클래스는 H2 R2DBC 드라이버로 인메모리 데이터베이스를 만들고, 애플리케이션과 같은 {@code schema.sql} 을 적용하여 테스트를 수행합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class ReactiveQuizRepositoryTest {
+
+    private static final ConnectionFactory connectionFactory =
+            ConnectionFactories.get("r2dbc:h2:mem:///reactive_quiz?options=DB_CLOSE_DELAY=-1");
+
+    private static final ReactiveQuizRepository repository = new ReactiveQuizRepository(connectionFactory);
+
+    @BeforeAll
+    static void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        DatabaseClient client = DatabaseClient.create(connectionFactory);
+        Flux.just("1 + 1 = 2 인가?", "지구는 평평한가?", "Java 는 JVM 위에서 실행되는가?")
+                .concatMap(question -> client.sql("INSERT INTO quiz (question, answer, author) VALUES (:q, :a, '작성자1')")
+                        .bind("q", question)
+                        .bind("a", !question.startsWith("지구"))
+                        .then())
+                .blockLast();
+    }
+
+    @Test
+    @DisplayName("ID 로 조회하면 퀴즈를, 없는 ID 면 빈 결과를 반환한다")
+    void testFindById() {
+        // When
+        Quiz quiz = repository.findById(2).block();
+        Quiz missing = repository.findById(999).block();
+
+        // Then
+        assertThat(quiz).isNotNull();
+        assertThat(quiz.getQuestion()).isEqualTo("지구는 평평한가?");
+        assertThat(quiz.getAnswer()).isFalse();
+        assertThat(quiz.getAuthor()).isEqualTo("작성자1");
+        assertThat(missing).isNull();
+    }
+
+    @Test
+    @DisplayName("무작위 조회는 존재하는 ID 와 요청한 개수 이하의 서로 다른 퀴즈를 반환한다")
+    void testRandomQueries() {
+        // When
+        Integer randomId = repository.getRandomId().block();
+        List<Quiz> quizzes = repository.findRandomQuizzes(2).collectList().block();
+        List<Quiz> all = repository.findRandomQuizzes(10).collectList().block();
+
+        // Then
+        assertThat(randomId).isBetween(1, 3);
+        assertThat(quizzes).hasSize(2).extracting(Quiz::getId).doesNotHaveDuplicates();
+        assertThat(all).hasSize(3);
+    }
+}
@@ -0,0 +1,61 @@
+package com.adam9e96.QuizStudy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * <p>
+ * `AliasTable` 에 대한 단위 테스트 클래스입니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AliasTableTest {
+
+    @Test
+    @DisplayName("가중치에 비례하는 빈도로 뽑고 가중치 0 인 ID 는 뽑지 않는다")
+    void testSampleFollowsWeights() {
+        // Given
+        AliasTable table = new AliasTable(new int[]{10, 20, 30, 40}, new double[]{1, 2, 7, 0});
+        SplittableRandom random = new SplittableRandom(42);
+        int draws = 200_000;
+        int[] hits = new int[41];
+
+        // When
+        for (int i = 0; i < draws; i++) {
+            hits[table.sample(random).getAsInt()]++;
+        }
+
+        // Then
+        assertThat(hits[10] / (double) draws).isCloseTo(0.1, within(0.01));
+        assertThat(hits[20] / (double) draws).isCloseTo(0.2, within(0.01));
+        assertThat(hits[30] / (double) draws).isCloseTo(0.7, within(0.01));
+        assertThat(hits[40]).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 테이블은 빈 결과를, 가중치 합이 0 이면 균등하게 뽑는다")
+    void testEmptyAndZeroWeights() {
+        // Given
+        AliasTable zero = new AliasTable(new int[]{1, 2}, new double[]{0, 0});
+        SplittableRandom random = new SplittableRandom(7);
+        int ones = 0;
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            if (zero.sample(random).getAsInt() == 1) {
+                ones++;
+            }
+        }
+
+        // Then
+        assertThat(AliasTable.EMPTY.sample(random)).isEmpty();
+        assertThat(ones / 10_000.0).isCloseTo(0.5, within(0.03));
+    }
+}
@@ -0,0 +1,89 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `AnswerIndex` 에 대한 단위 테스트 클래스입니다.
+ * 등록/수정/삭제 이벤트에 따라 정답 비트가 올바르게 갱신되는지 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AnswerIndexTest {
+
+    private final AnswerIndex answerIndex = new AnswerIndex();
+
+    @Test
+    @DisplayName("등록된 퀴즈의 정답을 반환하고, 없는 퀴즈는 UNKNOWN 을 반환")
+    void testLookupAfterInsert() {
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(new Quiz(1, "참 퀴즈", true, "작성자")));
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(new Quiz(2, "거짓 퀴즈", false, "작성자")));
+
+        assertThat(answerIndex.lookup(1)).isEqualTo(AnswerIndex.TRUE);
+        assertThat(answerIndex.lookup(2)).isEqualTo(AnswerIndex.FALSE);
+        assertThat(answerIndex.lookup(3)).isEqualTo(AnswerIndex.UNKNOWN);
+        assertThat(answerIndex.lookup(-1)).isEqualTo(AnswerIndex.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 정답 비트에 반영된다")
+    void testUpdateAndDelete() {
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(new Quiz(7, "퀴즈", true, "작성자")));
+
+        answerIndex.onQuizChanged(QuizChangedEvent.updated(new Quiz(7, "퀴즈", false, "작성자")));
+        assertThat(answerIndex.lookup(7)).isEqualTo(AnswerIndex.FALSE);
+
+        answerIndex.onQuizChanged(QuizChangedEvent.deleted(7));
+        assertThat(answerIndex.lookup(7)).isEqualTo(AnswerIndex.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("이미 정답이 있으면 putIfAbsent 는 덮어쓰지 않는다")
+    void testPutIfAbsentKeepsNewerValue() {
+        answerIndex.onQuizChanged(QuizChangedEvent.updated(new Quiz(5, "퀴즈", false, "작성자")));
+
+        answerIndex.putIfAbsent(new Quiz(5, "퀴즈", true, "작성자"));
+
+        assertThat(answerIndex.lookup(5)).isEqualTo(AnswerIndex.FALSE);
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트 이후 도착한 putIfAbsent 는 삭제된 퀴즈를 되살리지 않는다")
+    void testPutIfAbsentSkipsDeleted() {
+        // Given: 조회가 진행되는 동안 퀴즈가 삭제됨
+        Quiz staleRead = new Quiz(9, "퀴즈", true, "작성자");
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(staleRead));
+        answerIndex.onQuizChanged(QuizChangedEvent.deleted(9));
+
+        // When: 삭제 전에 읽은 결과로 보충
+        answerIndex.putIfAbsent(staleRead);
+
+        // Then
+        assertThat(answerIndex.lookup(9)).isEqualTo(AnswerIndex.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("재구축 후에도 tombstone 이 유지되어 삭제된 퀴즈가 되살아나지 않는다")
+    void testTombstoneSurvivesRebuild() {
+        // Given
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(new Quiz(3, "퀴즈", true, "작성자")));
+        answerIndex.onQuizChanged(QuizChangedEvent.deleted(3));
+
+        // When: 삭제된 퀴즈가 없는 스캔으로 재구축
+        RebuildableIndex.Rebuild rebuild = answerIndex.beginRebuild();
+        rebuild.add(new Quiz(4, "다른 퀴즈", false, "작성자"));
+        rebuild.commit();
+        answerIndex.putIfAbsent(new Quiz(3, "퀴즈", true, "작성자"));
+
+        // Then
+        assertThat(answerIndex.lookup(3)).isEqualTo(AnswerIndex.UNKNOWN);
+        assertThat(answerIndex.lookup(4)).isEqualTo(AnswerIndex.FALSE);
+    }
+}
@@ -0,0 +1,83 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.TokenCheckResult;
+import com.adam9e96.QuizStudy.dto.TokenCheckResult.Verdict;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `AnswerTokenService` 에 대한 단위 테스트 클래스입니다.
+ * 채점, 위조 토큰 거부, 만료, 키 교체 시나리오를 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AnswerTokenServiceTest {
+
+    private static final String KEY_1 = "k1:AAECAwQFBgcICQoLDA0ODxAREhMUFRYXGBkaGxwdHh8=";
+    private static final String KEY_2 = "k2:HxweHRwbGhkYFxYVFBMSERAPDg0MCwoJCAcGBQQDAgE=";
+    private static final Instant NOW = Instant.parse("2026-10-17T09:00:00Z");
+
+    private AnswerTokenService service(String keys, Instant now) {
+        return new AnswerTokenService(true, Duration.ofMinutes(30), keys, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("정답을 제출하면 CORRECT, 반대 답은 INCORRECT")
+    void testVerifyGradesAnswer() {
+        AnswerTokenService service = service(KEY_1, NOW);
+        String token = service.issue(42, true);
+
+        TokenCheckResult correct = service.verify(token, true);
+        TokenCheckResult incorrect = service.verify(token, false);
+
+        assertThat(correct.verdict()).isEqualTo(Verdict.CORRECT);
+        assertThat(correct.quizId()).isEqualTo(42);
+        assertThat(incorrect.verdict()).isEqualTo(Verdict.INCORRECT);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰은 INVALID")
+    void testTamperedTokenIsInvalid() {
+        AnswerTokenService service = service(KEY_1, NOW);
+        String token = service.issue(42, true);
+        String otherPayload = service.issue(43, true).split("\\.")[1];
+        String[] parts = token.split("\\.");
+
+        assertThat(service.verify(parts[0] + "." + otherPayload + "." + parts[2], true).verdict())
+                .isEqualTo(Verdict.INVALID);
+        assertThat(service.verify("k1.abc", true).verdict()).isEqualTo(Verdict.INVALID);
+        assertThat(service.verify("unknown." + parts[1] + "." + parts[2], true).verdict())
+                .isEqualTo(Verdict.INVALID);
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지난 토큰은 EXPIRED")
+    void testExpiredToken() {
+        String token = service(KEY_1, NOW).issue(42, false);
+
+        TokenCheckResult result = service(KEY_1, NOW.plus(Duration.ofMinutes(31))).verify(token, false);
+
+        assertThat(result.verdict()).isEqualTo(Verdict.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("교체 전 키로 발급한 토큰도 검증된다")
+    void testKeyRotation() {
+        String oldToken = service(KEY_1, NOW).issue(7, true);
+        AnswerTokenService rotated = service(KEY_2 + "," + KEY_1, NOW);
+
+        assertThat(rotated.verify(oldToken, true).verdict()).isEqualTo(Verdict.CORRECT);
+        assertThat(rotated.issue(7, true)).startsWith("k2.");
+        assertThat(service(KEY_2, NOW).verify(oldToken, true).verdict()).isEqualTo(Verdict.INVALID);
+    }
+}
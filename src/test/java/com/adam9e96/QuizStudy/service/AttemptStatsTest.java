@@ -0,0 +1,60 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.QuizAccuracy;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `AttemptStats` 에 대한 단위 테스트 클래스입니다.
+ * 데이터베이스 없이 채점 결과를 직접 반영하여 정답률 집계를 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AttemptStatsTest {
+
+    @Test
+    @DisplayName("정답률이 낮은 순으로 최소 채점 횟수를 넘은 퀴즈만 반환한다")
+    void testHardest() {
+        // Given
+        AttemptStats stats = new AttemptStats(null);
+        record(stats, 1, 10, 9);  // 90%
+        record(stats, 2, 10, 2);  // 20%
+        record(stats, 3, 10, 5);  // 50%
+        record(stats, 4, 2, 0);   // 채점 수 부족
+
+        // When
+        List<QuizAccuracy> hardest = stats.hardest(2, 5);
+
+        // Then
+        assertThat(hardest).extracting(QuizAccuracy::quizId).containsExactly(2, 3);
+        assertThat(hardest.get(0).accuracy()).isEqualTo(0.2);
+    }
+
+    @Test
+    @DisplayName("삭제된 퀴즈의 집계는 제거된다")
+    void testDeletedQuizIsRemoved() {
+        // Given
+        AttemptStats stats = new AttemptStats(null);
+        record(stats, 1, 3, 1);
+
+        // When
+        stats.onQuizChanged(QuizChangedEvent.deleted(1));
+
+        // Then
+        assertThat(stats.get(1).attempts()).isZero();
+    }
+
+    private static void record(AttemptStats stats, int quizId, int attempts, int correct) {
+        for (int i = 0; i < attempts; i++) {
+            stats.add(quizId, i < correct);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `AuthorBuckets` 에 대한 단위 테스트 클래스입니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class AuthorBucketsTest {
+
+    @Test
+    @DisplayName("작성자가 바뀌면 이전 작성자의 개수가 줄고 새 작성자의 개수가 는다")
+    void testMoveBetweenAuthors() {
+        // Given
+        AuthorBuckets buckets = new AuthorBuckets();
+        buckets.put(1, "a");
+        buckets.put(2, "a");
+        buckets.put(3, "b");
+
+        // When
+        buckets.put(1, "b");
+
+        // Then
+        assertThat(buckets.count("a")).isEqualTo(1);
+        assertThat(buckets.count("b")).isEqualTo(2);
+        assertThat(buckets.get("a", 0)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 퀴즈가 삭제된 작성자는 요약에서 사라진다")
+    void testRemoveLastQuiz() {
+        // Given
+        AuthorBuckets buckets = new AuthorBuckets();
+        buckets.put(1, "a");
+        buckets.put(200, "b");
+
+        // When
+        buckets.remove(1);
+        buckets.remove(1);
+
+        // Then
+        assertThat(buckets.count("a")).isZero();
+        assertThat(buckets.counts()).containsExactly(new AuthorCount("b", 1));
+    }
+}
@@ -0,0 +1,47 @@
+package com.adam9e96.QuizStudy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p>
+ * `CsvRecordReader` 에 대한 단위 테스트 클래스입니다.
+ * 따옴표, 줄바꿈이 포함된 필드와 줄 번호 추적을 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 줄바꿈, 이스케이프된 따옴표를 하나의 필드로 읽는다")
+    void testQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "question,answer,author\r\n"
+                        + "\"Java는 \"\"객체 지향\"\", 언어인가?\",O,작성자1\n"
+                        + "\n"
+                        + "\"두 줄\n퀴즈\",false,작성자2"));
+
+        assertThat(reader.next()).containsExactly("question", "answer", "author");
+        assertThat(reader.next()).containsExactly("Java는 \"객체 지향\", 언어인가?", "O", "작성자1");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("두 줄\n퀴즈", "false", "작성자2");
+        assertThat(reader.recordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 예외를 던진다")
+    void testUnterminatedQuote() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"끝나지 않음,O,작성자"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+    }
+}
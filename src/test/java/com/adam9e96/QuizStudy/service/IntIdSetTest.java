@@ -0,0 +1,67 @@
+package com.adam9e96.QuizStudy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p>
+ * `IntIdSet` 에 대한 단위 테스트 클래스입니다.
+ * 추가/삭제 후에도 앞쪽 {@code size()} 개의 원소가 정확히 현재 ID 집합과 일치하는지 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class IntIdSetTest {
+
+    @Test
+    @DisplayName("추가한 ID 는 중복 없이 보관된다")
+    void testAddIgnoresDuplicates() {
+        IntIdSet set = new IntIdSet();
+
+        assertThat(set.add(3)).isTrue();
+        assertThat(set.add(3)).isFalse();
+        assertThat(set.add(100)).isTrue();
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(3)).isTrue();
+        assertThat(set.contains(100)).isTrue();
+        assertThat(set.contains(4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 남은 ID 가 앞쪽에 빈틈없이 유지된다")
+    void testRemoveKeepsDenseArray() {
+        IntIdSet set = new IntIdSet();
+        for (int id = 1; id <= 50; id++) {
+            set.add(id);
+        }
+
+        assertThat(set.remove(1)).isTrue();
+        assertThat(set.remove(25)).isTrue();
+        assertThat(set.remove(25)).isFalse();
+        assertThat(set.remove(999)).isFalse();
+
+        Set<Integer> remaining = new HashSet<>();
+        for (int i = 0; i < set.size(); i++) {
+            remaining.add(set.get(i));
+        }
+        assertThat(set.size()).isEqualTo(48);
+        assertThat(remaining).hasSize(48).doesNotContain(1, 25).contains(2, 24, 26, 50);
+    }
+
+    @Test
+    @DisplayName("음수 ID 는 거부한다")
+    void testNegativeIdRejected() {
+        IntIdSet set = new IntIdSet();
+
+        assertThatThrownBy(() -> set.add(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(set.remove(-1)).isFalse();
+    }
+}
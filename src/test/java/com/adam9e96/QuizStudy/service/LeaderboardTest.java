@@ -0,0 +1,116 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.LeaderboardEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `Leaderboard` 에 대한 단위 테스트 클래스입니다.
+ * 메모리 집계와 상위 목록 계산, H2 메모리 데이터베이스로 증가분 저장을 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class LeaderboardTest {
+
+    @Test
+    @DisplayName("상위 목록은 점수 순으로 top-size 명까지만 보관한다")
+    void testTopKeepsBestPlayers() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard(null, null, 2);
+        answer(leaderboard, "a", 1);
+        answer(leaderboard, "b", 3);
+        answer(leaderboard, "c", 2);
+
+        // When
+        leaderboard.refresh();
+        List<LeaderboardEntry> top = leaderboard.top(10);
+
+        // Then
+        assertThat(top).extracting(LeaderboardEntry::player).containsExactly("b", "c");
+        assertThat(top).extracting(LeaderboardEntry::rank).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("오답이면 연속 정답이 초기화되고 최고 기록은 유지된다")
+    void testStreak() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard(null, null, 10);
+        answer(leaderboard, "a", 3);
+
+        // When
+        leaderboard.record("a", false);
+        leaderboard.record("a", true);
+
+        // Then
+        LeaderboardEntry entry = leaderboard.get("a");
+        assertThat(entry.score()).isEqualTo(4);
+        assertThat(entry.attempts()).isEqualTo(5);
+        assertThat(entry.streak()).isEqualTo(1);
+        assertThat(entry.bestStreak()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 반영해도 점수가 누락되지 않는다")
+    void testConcurrentRecord() throws Exception {
+        // Given
+        Leaderboard leaderboard = new Leaderboard(null, null, 10);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> answer(leaderboard, "shared", 1000));
+            }
+        }
+
+        // Then
+        assertThat(leaderboard.get("shared").score()).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 같은 플레이어를 저장하면 점수 증가분이 합산된다")
+    void testCheckpointAddsDeltas() {
+        // Given
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:leaderboard;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists player_score");
+        jdbcTemplate.execute("create table player_score (player varchar(20) primary key, score bigint not null, "
+                + "attempts bigint not null, streak integer not null, best_streak integer not null, "
+                + "updated_at timestamp not null)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        Leaderboard first = new Leaderboard(jdbcTemplate, transactionManager, 10);
+        Leaderboard second = new Leaderboard(jdbcTemplate, transactionManager, 10);
+
+        // When
+        answer(first, "shared", 2);
+        first.checkpoint();
+        answer(second, "shared", 3);
+        second.checkpoint();
+        answer(first, "shared", 1);
+        first.checkpoint();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("select score from player_score where player = 'shared'", Long.class))
+                .isEqualTo(6);
+        assertThat(jdbcTemplate.queryForObject("select attempts from player_score where player = 'shared'", Long.class))
+                .isEqualTo(6);
+    }
+
+    private static void answer(Leaderboard leaderboard, String player, int correct) {
+        for (int i = 0; i < correct; i++) {
+            leaderboard.record(player, true);
+        }
+    }
+}
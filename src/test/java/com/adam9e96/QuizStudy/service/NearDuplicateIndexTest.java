@@ -0,0 +1,72 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.DuplicateMatch;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `NearDuplicateIndex` 에 대한 단위 테스트 클래스입니다.
+ * 데이터베이스 없이 {@link QuizChangedEvent} 만으로 색인을 채워 유사 문제 검사를 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class NearDuplicateIndexTest {
+
+    private NearDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NearDuplicateIndex(NearDuplicateIndex.Mode.WARN, 0.8);
+        index.onQuizChanged(QuizChangedEvent.inserted(
+                new Quiz(1, "Java는 객체 지향 프로그래밍 언어이며 JVM 위에서 실행되는가?", true, "작성자")));
+        index.onQuizChanged(QuizChangedEvent.inserted(
+                new Quiz(2, "HTTP 상태 코드 404 는 서버 내부 오류를 뜻하는가?", false, "작성자")));
+    }
+
+    @Test
+    @DisplayName("공백/기호/대소문자만 다르거나 한두 글자만 다른 문제를 찾는다")
+    void testFindsNearDuplicate() {
+        Optional<DuplicateMatch> spacing = index.findSimilar("java는 객체지향 프로그래밍 언어이며, JVM 위에서 실행되는가", null);
+        Optional<DuplicateMatch> suffix = index.findSimilar("Java는 객체 지향 프로그래밍 언어이며 JVM 위에서 실행되는가요?", null);
+
+        assertThat(spacing).map(DuplicateMatch::quizId).hasValue(1);
+        assertThat(spacing.get().similarity()).isEqualTo(1.0);
+        assertThat(suffix).map(DuplicateMatch::quizId).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("다른 문제이거나 자기 자신만 비슷하면 찾지 않는다")
+    void testIgnoresDifferentQuestionAndSelf() {
+        assertThat(index.findSimilar("Kotlin 의 data class 는 equals 를 자동으로 만드는가?", null)).isEmpty();
+        assertThat(index.findSimilar("Java는 객체 지향 프로그래밍 언어이며 JVM 위에서 실행되는가?", 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 문제는 더 이상 찾지 않는다")
+    void testDeletedQuestion() {
+        index.onQuizChanged(QuizChangedEvent.deleted(2));
+
+        assertThat(index.findSimilar("HTTP 상태 코드 404 는 서버 내부 오류를 뜻하는가?", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기호뿐이거나 너무 짧은 문제는 색인하지 않고 서로 중복으로 보지 않는다")
+    void testShortQuestionsAreNotCompared() {
+        index.onQuizChanged(QuizChangedEvent.inserted(new Quiz(3, "???", true, "작성자")));
+        index.onQuizChanged(QuizChangedEvent.inserted(new Quiz(4, "O?", true, "작성자")));
+
+        assertThat(index.findSimilar("!!!", null)).isEmpty();
+        assertThat(index.findSimilar("o!", null)).isEmpty();
+        assertThat(NearDuplicateIndex.signature("...")).isNull();
+    }
+}
@@ -0,0 +1,75 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.ImportReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `QuizImportService` 에 대한 단위 테스트 클래스입니다.
+ * H2 메모리 데이터베이스에 NDJSON 입력을 등록하여 잘못된 줄이 요청 전체를 실패시키지 않고 보고되는지 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class QuizImportServiceTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:quiz_import;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    private final QuizImportService importService = new QuizImportService(jdbcTemplate,
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(),
+            event -> {
+            },
+            new NearDuplicateIndex(NearDuplicateIndex.Mode.OFF, 0.8));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("drop table if exists quiz");
+        jdbcTemplate.execute("create table quiz (id serial primary key, question text not null, "
+                + "answer boolean not null, author varchar(20) not null)");
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 10);
+    }
+
+    @Test
+    @DisplayName("null 이나 객체가 아닌 줄은 해당 줄만 거부하고 나머지는 등록한다")
+    void testNonObjectLinesAreRejected() throws Exception {
+        // Given
+        String ndjson = """
+                {"question":"1 + 1 = 2 인가?","answer":true,"author":"작성자1"}
+                {"question":"지구는 평평한가?","answer":false,"author":"작성자1"}
+                null
+                [1, 2]
+                "문자열"
+                {"question":"Java 는 JVM 위에서 실행되는가?","answer":true,"author":"작성자2"}
+                """;
+
+        // When
+        ImportReport report = importService.importNdjson(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.errors()).extracting(ImportReport.RowError::line).containsExactly(3L, 4L, 5L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from quiz", Long.class)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,98 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.dto.AuthorCount;
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizBulkImportedEvent;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p>
+ * `QuizIndexRebuilder` 에 대한 단위 테스트 클래스입니다.
+ * H2 메모리 데이터베이스 한 번의 조회로 여러 색인이 재구축되고, 실패 시 기존 색인이 유지되는지 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class QuizIndexRebuilderTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:index_rebuilder;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    private final RandomQuizSelector selector = new RandomQuizSelector();
+    private final AnswerIndex answerIndex = new AnswerIndex();
+    private final AuthorIndex authorIndex = new AuthorIndex();
+
+    private final QuizIndexRebuilder rebuilder = new QuizIndexRebuilder(dataSource,
+            new DataSourceTransactionManager(dataSource), List.of(selector, answerIndex, authorIndex), Runnable::run, 2);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("drop table if exists quiz");
+        jdbcTemplate.execute("create table quiz (id serial primary key, question text not null, "
+                + "answer boolean not null, author varchar(20) not null)");
+        jdbcTemplate.update("insert into quiz (question, answer, author) values "
+                + "('퀴즈 1', true, '작성자1'), ('퀴즈 2', false, '작성자1'), ('퀴즈 3', true, '작성자2')");
+    }
+
+    @Test
+    @DisplayName("한 번의 재구축으로 모든 색인이 채워진다")
+    void testRebuildFillsAllIndexes() {
+        // When
+        rebuilder.rebuild();
+
+        // Then
+        assertThat(selector.isLoaded()).isTrue();
+        assertThat(selector.size()).isEqualTo(3);
+        assertThat(answerIndex.lookup(2)).isEqualTo(AnswerIndex.FALSE);
+        assertThat(authorIndex.counts()).extracting(AuthorCount::author).containsExactly("작성자1", "작성자2");
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 기존 색인을 유지하고, 이후 변경 이벤트는 계속 반영된다")
+    void testFailedRebuildKeepsPreviousIndexes() {
+        // Given
+        rebuilder.rebuild();
+        jdbcTemplate.execute("drop table quiz");
+
+        // When
+        assertThatThrownBy(rebuilder::rebuild).isInstanceOf(RuntimeException.class);
+        answerIndex.onQuizChanged(QuizChangedEvent.inserted(new Quiz(9, "퀴즈 9", false, "작성자3")));
+
+        // Then
+        assertThat(selector.size()).isEqualTo(3);
+        assertThat(answerIndex.lookup(1)).isEqualTo(AnswerIndex.TRUE);
+        assertThat(answerIndex.lookup(9)).isEqualTo(AnswerIndex.FALSE);
+    }
+
+    @Test
+    @DisplayName("일괄 등록 이벤트는 재구축을 실행기에 넘기고 바로 반환한다")
+    void testBulkImportRebuildsAsynchronously() {
+        // Given
+        List<Runnable> tasks = new ArrayList<>();
+        QuizIndexRebuilder asyncRebuilder = new QuizIndexRebuilder(dataSource,
+                new DataSourceTransactionManager(dataSource), List.of(selector), tasks::add, 2);
+
+        // When
+        asyncRebuilder.onBulkImported(new QuizBulkImportedEvent(3));
+
+        // Then
+        assertThat(selector.isLoaded()).isFalse();
+        assertThat(tasks).hasSize(1);
+        tasks.getFirst().run();
+        assertThat(selector.size()).isEqualTo(3);
+    }
+}
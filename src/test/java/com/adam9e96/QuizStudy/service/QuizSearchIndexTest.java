@@ -0,0 +1,65 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `QuizSearchIndex` 에 대한 단위 테스트 클래스입니다.
+ * 데이터베이스 없이 {@link QuizChangedEvent} 만으로 역색인을 채워 검색 결과를 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class QuizSearchIndexTest {
+
+    private QuizSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new QuizSearchIndex(null);
+        insert(1, "Java 는 객체 지향 언어인가?");
+        insert(2, "Java 의 int 는 원시 타입인가?");
+        insert(3, "Kotlin 은 JVM 언어인가?");
+    }
+
+    @Test
+    @DisplayName("모든 검색어를 포함한 퀴즈만 대소문자 구분 없이 찾는다")
+    void testSearchMatchesAllTerms() {
+        assertThat(index.search("java 타입인가", 0, 10)).containsExactly(2);
+        assertThat(index.search("JAVA", 0, 10)).containsExactlyInAnyOrder(1, 2);
+        assertThat(index.search("python", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 본문은 검색되지 않는다")
+    void testUpdateAndDelete() {
+        // When
+        index.onQuizChanged(QuizChangedEvent.updated(new Quiz(1, "Python 은 인터프리터 언어인가?", true, "작성자")));
+        index.onQuizChanged(QuizChangedEvent.deleted(2));
+
+        // Then
+        assertThat(index.search("java", 0, 10)).isEmpty();
+        assertThat(index.search("python", 0, 10)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("offset 과 limit 으로 결과를 나누어 조회한다")
+    void testPaging() {
+        int[] all = index.search("언어인가", 0, 10);
+        int[] second = index.search("언어인가", 1, 1);
+
+        assertThat(all).hasSize(2);
+        assertThat(second).containsExactly(all[1]);
+    }
+
+    private void insert(int id, String question) {
+        index.onQuizChanged(QuizChangedEvent.inserted(new Quiz(id, question, true, "작성자")));
+    }
+}
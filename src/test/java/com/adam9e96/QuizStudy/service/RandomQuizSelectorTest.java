@@ -0,0 +1,67 @@
+package com.adam9e96.QuizStudy.service;
+
+import com.adam9e96.QuizStudy.entity.Quiz;
+import com.adam9e96.QuizStudy.event.QuizChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `RandomQuizSelector` 에 대한 단위 테스트 클래스입니다.
+ * 데이터베이스 없이 {@link QuizChangedEvent} 만으로 인덱스를 채워 선택 결과를 검증합니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class RandomQuizSelectorTest {
+
+    private RandomQuizSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new RandomQuizSelector();
+        for (int id = 1; id <= 20; id++) {
+            selector.onQuizChanged(QuizChangedEvent.inserted(new Quiz(id, "퀴즈 " + id, true, "작성자")));
+        }
+    }
+
+    @Test
+    @DisplayName("삭제된 ID 는 선택되지 않는다")
+    void testPickSkipsDeletedIds() {
+        for (int id = 2; id <= 20; id++) {
+            selector.onQuizChanged(QuizChangedEvent.deleted(id));
+        }
+
+        assertThat(selector.size()).isEqualTo(1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(selector.pick()).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 건 선택 시 중복 없이 요청한 개수만큼 반환한다")
+    void testPickDistinct() {
+        int[] picked = selector.pickDistinct(5);
+
+        assertThat(picked).hasSize(5);
+        assertThat(Arrays.stream(picked).distinct().count()).isEqualTo(5);
+        assertThat(Arrays.stream(picked).allMatch(id -> id >= 1 && id <= 20)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 개수가 전체보다 많으면 전부를 반환한다")
+    void testPickDistinctMoreThanSize() {
+        int[] picked = selector.pickDistinct(100);
+
+        assertThat(picked).hasSize(20);
+        assertThat(Arrays.stream(picked).sorted().toArray())
+                .containsExactly(IntStream.rangeClosed(1, 20).toArray());
+    }
+}
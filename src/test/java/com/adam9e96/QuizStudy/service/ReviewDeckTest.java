@@ -0,0 +1,74 @@
+package com.adam9e96.QuizStudy.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p>
+ * `ReviewDeck` 의 SM-2 간격 계산과 예정 순서에 대한 단위 테스트 클래스입니다.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-17
+ */
+class ReviewDeckTest {
+
+    private static final long RELEARN = 10 * 60 * 1000L;
+
+    @Test
+    @DisplayName("연속 정답이면 간격이 1일, 6일, 6 × EF 일로 늘어난다")
+    void testCorrectIntervals() {
+        // Given
+        ReviewDeck deck = new ReviewDeck("p", RELEARN);
+
+        // When
+        ReviewDeck.State first = deck.review(1, true, 0);
+        ReviewDeck.State second = deck.review(1, true, first.dueAt());
+        ReviewDeck.State third = deck.review(1, true, second.dueAt());
+
+        // Then
+        assertThat(first.intervalDays()).isEqualTo(1);
+        assertThat(second.intervalDays()).isEqualTo(6);
+        assertThat(third.intervalDays()).isEqualTo(15);
+        assertThat(third.dueAt()).isEqualTo(second.dueAt() + 15 * ReviewDeck.DAY_MILLIS);
+    }
+
+    @Test
+    @DisplayName("오답이면 연속 정답이 초기화되고 EF 가 줄며 재학습 지연 뒤에 다시 나온다")
+    void testWrongAnswerResets() {
+        // Given
+        ReviewDeck deck = new ReviewDeck("p", RELEARN);
+        deck.review(1, true, 0);
+
+        // When
+        ReviewDeck.State wrong = deck.review(1, false, 1000);
+
+        // Then
+        assertThat(wrong.repetitions()).isZero();
+        assertThat(wrong.easiness()).isLessThan(ReviewDeck.INITIAL_EASINESS);
+        assertThat(wrong.dueAt()).isEqualTo(1000 + RELEARN);
+        assertThat(deck.due(1000)).isEmpty();
+        assertThat(deck.due(1000 + RELEARN)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("예정 시각이 가장 이른 카드를 먼저 고르고 예정 전 카드는 세지 않는다")
+    void testDueOrder() {
+        // Given
+        ReviewDeck deck = new ReviewDeck("p", RELEARN);
+        deck.review(1, true, 0);
+        deck.review(2, false, 0);
+        deck.review(3, false, 5);
+
+        // When / Then
+        assertThat(deck.due(RELEARN + 5)).hasValue(2);
+        assertThat(deck.dueCount(RELEARN + 5, 10)).isEqualTo(2);
+        assertThat(deck.dueCount(RELEARN + 5, 1)).isEqualTo(1);
+        deck.remove(2);
+        assertThat(deck.due(RELEARN + 5)).hasValue(3);
+        assertThat(deck.earliest()).hasValue(3);
+        assertThat(deck.size()).isEqualTo(2);
+    }
+}